@@ -0,0 +1,17 @@
+package kuke.board.common.snowflake;
+
+import java.util.OptionalLong;
+
+/**
+ * 설정으로 지정한 nodeId - 배포 시 replica마다 고유한 값을 지정한다.
+ * -Dsnowflake.node-id=3 또는 SNOWFLAKE_NODE_ID=3
+ */
+public class ConfiguredNodeIdProvider implements NodeIdProvider {
+
+	@Override
+	public OptionalLong provide() {
+		return SnowflakeSettings.get(SnowflakeSettings.NODE_ID)
+			.map(value -> OptionalLong.of(Long.parseLong(value)))
+			.orElseGet(OptionalLong::empty);
+	}
+}
@@ -0,0 +1,22 @@
+package kuke.board.common.snowflake;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 서비스에서 @Import로 가져다 쓴다.
+ * 한 JVM 안에서 Snowflake는 하나만 사용한다. 같은 nodeId로 인스턴스가 여러 개면 ID가 중복될 수 있다.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+	@Bean
+	public Snowflake snowflake() {
+		return new Snowflake();
+	}
+
+	@Bean
+	public IdSupplier idSupplier(Snowflake snowflake) {
+		return new IdSupplier(snowflake);
+	}
+}
@@ -0,0 +1,92 @@
+package kuke.board.common.snowflake;
+
+/**
+ * 스레드별로 ID를 미리 받아두고 꺼내 쓰는 Snowflake 래퍼
+ * - 미리 받아둔 ID를 꺼낼 때는 공유 상태(Snowflake의 AtomicLong)를 건드리지 않는다.
+ * - 스레드마다 블록을 따로 가지므로, 서로 다른 스레드가 발급한 ID 사이의 순서는 최대 maxAgeMillis만큼 어긋날 수 있다.
+ *   같은 스레드 안에서는 항상 증가한다.
+ */
+public class IdSupplier {
+	private static final int DEFAULT_PREFETCH_SIZE = 64;
+	private static final long DEFAULT_MAX_AGE_MILLIS = 1000L;
+	private static final long MAX_WAIT_AFTER_MILLIS = 1000L;
+
+	private final Snowflake snowflake;
+	private final int prefetchSize;
+	private final long maxAgeMillis;
+	private final ThreadLocal<IdBlock> blocks;
+
+	public IdSupplier(Snowflake snowflake) {
+		this(snowflake, DEFAULT_PREFETCH_SIZE, DEFAULT_MAX_AGE_MILLIS);
+	}
+
+	public IdSupplier(Snowflake snowflake, int prefetchSize, long maxAgeMillis) {
+		if (prefetchSize <= 0) {
+			throw new IllegalArgumentException("prefetchSize must be positive: " + prefetchSize);
+		}
+		this.snowflake = snowflake;
+		this.prefetchSize = prefetchSize;
+		this.maxAgeMillis = maxAgeMillis;
+		this.blocks = ThreadLocal.withInitial(() -> new IdBlock(prefetchSize));
+	}
+
+	public long nextId() {
+		IdBlock block = blocks.get();
+		if (block.position == prefetchSize || System.currentTimeMillis() - block.fetchedAtMillis > maxAgeMillis) {
+			block.refill(snowflake);
+		}
+		return block.ids[block.position++];
+	}
+
+	/**
+	 * minId보다 큰 ID를 발급한다. 미리 받아둔 ID가 오래되어 minId 이하라면 블록을 새로 받는다.
+	 * - 부모보다 먼저 정렬되면 안 되는 대댓글 등에서 사용한다.
+	 * - minId가 다른 노드에서 발급되었거나 시계가 앞선 ID라면, 이 노드의 시계가 따라잡을 때까지 기다린다.
+	 *   MAX_WAIT_AFTER_MILLIS 안에 따라잡지 못하면 IllegalStateException
+	 */
+	public long nextIdAfter(long minId) {
+		long id = nextId();
+		if (id > minId) {
+			return id;
+		}
+		IdBlock block = blocks.get();
+		long deadline = System.currentTimeMillis() + MAX_WAIT_AFTER_MILLIS;
+		while (true) {
+			block.refill(snowflake);
+			id = block.ids[block.position++];
+			if (id > minId) {
+				return id;
+			}
+			if (System.currentTimeMillis() > deadline) {
+				throw new IllegalStateException("cannot issue id after " + minId + " within " + MAX_WAIT_AFTER_MILLIS + "ms");
+			}
+			sleep();
+		}
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(1L);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted while waiting for clock", e);
+		}
+	}
+
+	private static class IdBlock {
+		private final long[] ids;
+		private int position;
+		private long fetchedAtMillis;
+
+		private IdBlock(int size) {
+			this.ids = new long[size];
+			this.position = size;
+		}
+
+		private void refill(Snowflake snowflake) {
+			snowflake.nextIds(ids, 0, ids.length);
+			position = 0;
+			fetchedAtMillis = System.currentTimeMillis();
+		}
+	}
+}
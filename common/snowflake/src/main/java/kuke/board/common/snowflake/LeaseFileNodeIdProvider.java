@@ -0,0 +1,79 @@
+package kuke.board.common.snowflake;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalLong;
+
+/**
+ * 공유 디렉토리의 node-{id}.lease 파일에 lock을 잡아 nodeId를 임대한다.
+ * - lock은 JVM이 종료되면 OS가 해제하므로, 죽은 replica의 nodeId는 다음 replica가 다시 가져갈 수 있다.
+ * - -Dsnowflake.node-id.lease-dir=/var/run/jamm-board 또는 SNOWFLAKE_NODE_ID_LEASE_DIR
+ */
+public class LeaseFileNodeIdProvider implements NodeIdProvider {
+	private final Path leaseDir;
+	private FileChannel leaseChannel;
+	private long leasedNodeId;
+
+	public LeaseFileNodeIdProvider() {
+		this(SnowflakeSettings.get(SnowflakeSettings.LEASE_DIR).map(Path::of).orElse(null));
+	}
+
+	public LeaseFileNodeIdProvider(Path leaseDir) {
+		this.leaseDir = leaseDir;
+	}
+
+	@Override
+	public synchronized OptionalLong provide() {
+		if (leaseDir == null) {
+			return OptionalLong.empty();
+		}
+		if (leaseChannel != null) {
+			return OptionalLong.of(leasedNodeId);
+		}
+		try {
+			Files.createDirectories(leaseDir);
+			for (long nodeId = 0; nodeId <= Snowflake.maxNodeId; nodeId++) {
+				if (tryLease(nodeId)) {
+					return OptionalLong.of(nodeId);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		throw new IllegalStateException("no node id available in " + leaseDir);
+	}
+
+	private boolean tryLease(long nodeId) throws IOException {
+		FileChannel channel = FileChannel.open(
+			leaseDir.resolve("node-" + nodeId + ".lease"),
+			StandardOpenOption.CREATE,
+			StandardOpenOption.WRITE
+		);
+		FileLock lock;
+		try {
+			lock = channel.tryLock();
+		} catch (OverlappingFileLockException e) {
+			// 같은 JVM에서 이미 임대한 nodeId
+			lock = null;
+		}
+		if (lock == null) {
+			channel.close();
+			return false;
+		}
+
+		channel.truncate(0);
+		channel.write(ByteBuffer.wrap(String.valueOf(ProcessHandle.current().pid()).getBytes(StandardCharsets.UTF_8)));
+		// channel을 닫으면 lock도 풀리므로 JVM이 살아있는 동안 유지한다.
+		leaseChannel = channel;
+		leasedNodeId = nodeId;
+		return true;
+	}
+}
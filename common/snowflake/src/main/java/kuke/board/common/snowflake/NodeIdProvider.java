@@ -0,0 +1,36 @@
+package kuke.board.common.snowflake;
+
+import java.util.OptionalLong;
+import java.util.ServiceLoader;
+
+/**
+ * Snowflake nodeId 할당 SPI
+ * - 할당할 수 없으면 empty를 반환하고, 다음 provider에게 넘긴다.
+ * - META-INF/services/kuke.board.common.snowflake.NodeIdProvider 로 등록한 구현체가 가장 먼저 사용된다.
+ */
+@FunctionalInterface
+public interface NodeIdProvider {
+
+	OptionalLong provide();
+
+	default NodeIdProvider orElse(NodeIdProvider other) {
+		return () -> {
+			OptionalLong nodeId = provide();
+			return nodeId.isPresent() ? nodeId : other.provide();
+		};
+	}
+
+	/**
+	 * ServiceLoader 등록 구현체 -> 설정(system property, env) -> lease 파일 -> 랜덤 순으로 nodeId를 찾는다.
+	 */
+	static NodeIdProvider defaultProvider() {
+		NodeIdProvider provider = OptionalLong::empty;
+		for (NodeIdProvider registered : ServiceLoader.load(NodeIdProvider.class)) {
+			provider = provider.orElse(registered);
+		}
+		return provider
+			.orElse(new ConfiguredNodeIdProvider())
+			.orElse(new LeaseFileNodeIdProvider())
+			.orElse(new RandomNodeIdProvider());
+	}
+}
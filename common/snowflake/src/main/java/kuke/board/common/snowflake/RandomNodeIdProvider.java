@@ -0,0 +1,15 @@
+package kuke.board.common.snowflake;
+
+import java.util.OptionalLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * 다른 방법으로 nodeId를 정하지 못했을 때 사용 - 여러 JVM이 같은 nodeId를 뽑을 수 있다.
+ */
+public class RandomNodeIdProvider implements NodeIdProvider {
+
+	@Override
+	public OptionalLong provide() {
+		return OptionalLong.of(RandomGenerator.getDefault().nextLong(Snowflake.maxNodeId + 1));
+	}
+}
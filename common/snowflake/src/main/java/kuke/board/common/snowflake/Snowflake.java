@@ -1,6 +1,7 @@
 package kuke.board.common.snowflake;
 
-import java.util.random.RandomGenerator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 public class Snowflake {
 	private static final int UNUSED_BITS = 1;
@@ -8,43 +9,160 @@ public class Snowflake {
 	private static final int NODE_ID_BITS = 10;
 	private static final int SEQUENCE_BITS = 12;
 
-	private static final long maxNodeId = (1L << NODE_ID_BITS) - 1;
+	static final long maxNodeId = (1L << NODE_ID_BITS) - 1;
 	private static final long maxSequence = (1L << SEQUENCE_BITS) - 1;
 
-	private final long nodeId = RandomGenerator.getDefault().nextLong(maxNodeId + 1);
+	private final long nodeId;
 	// UTC = 2024-01-01T00:00:00Z
 	private final long startTimeMillis = 1704067200000L;
 
-	private long lastTimeMillis = startTimeMillis;
-	private long sequence = 0L;
+	// 시계가 이만큼 이내로 역행하면 실패하지 않고 예약된 sequence를 빌려 쓴다. 0이면 역행 시 항상 실패
+	private final long maxBackwardMillis;
+	// 평상시에는 [0, maxNormalSequence]만 사용하고, 나머지는 시계 역행 시를 위해 남겨둔다.
+	private final long maxNormalSequence;
+	private final LongSupplier clock;
 
-	public synchronized long nextId() {
-		long currentTimeMillis = System.currentTimeMillis();
+	// (currentTimeMillis - startTimeMillis) << SEQUENCE_BITS | sequence
+	private final AtomicLong state = new AtomicLong(0L);
 
-		if (currentTimeMillis < lastTimeMillis) {
-			throw new IllegalStateException("Invalid Time");
+	public Snowflake() {
+		this(NodeIdProvider.defaultProvider());
+	}
+
+	public Snowflake(NodeIdProvider nodeIdProvider) {
+		this(
+			nodeIdProvider.provide().orElseThrow(() -> new IllegalStateException("node id not provided")),
+			SnowflakeSettings.getLong(SnowflakeSettings.MAX_BACKWARD_MILLIS, 0L),
+			SnowflakeSettings.getLong(SnowflakeSettings.RESERVED_SEQUENCE, 0L)
+		);
+	}
+
+	public Snowflake(long nodeId, long maxBackwardMillis, long reservedSequence) {
+		this(nodeId, maxBackwardMillis, reservedSequence, System::currentTimeMillis);
+	}
+
+	Snowflake(long nodeId, long maxBackwardMillis, long reservedSequence, LongSupplier clock) {
+		if (nodeId < 0 || nodeId > maxNodeId) {
+			throw new IllegalArgumentException("nodeId must be between 0 and " + maxNodeId + ": " + nodeId);
+		}
+		if (maxBackwardMillis < 0) {
+			throw new IllegalArgumentException("maxBackwardMillis must not be negative: " + maxBackwardMillis);
 		}
+		if (reservedSequence < 0 || reservedSequence > maxSequence) {
+			throw new IllegalArgumentException("reservedSequence must be between 0 and " + maxSequence + ": " + reservedSequence);
+		}
+		this.nodeId = nodeId;
+		this.maxBackwardMillis = maxBackwardMillis;
+		this.maxNormalSequence = maxSequence - reservedSequence;
+		this.clock = clock;
+	}
+
+	public long getNodeId() {
+		return nodeId;
+	}
+
+	public long nextId() {
+		while (true) {
+			// state를 먼저 읽고 시간을 읽어야, 다른 스레드가 먼저 갱신한 시간을 시계 역행으로 오인하지 않는다.
+			long lastState = state.get();
+			long currentTimeMillis = clock.getAsLong() - startTimeMillis;
+			long lastTimeMillis = lastState >>> SEQUENCE_BITS;
+			long lastSequence = lastState & maxSequence;
+
+			long nextState;
+			if (currentTimeMillis < lastTimeMillis) {
+				if (lastTimeMillis - currentTimeMillis > maxBackwardMillis) {
+					throw new IllegalStateException("Invalid Time");
+				}
+				// 시계 역행 - 마지막 시간에 머무르며 예약된 sequence까지 빌려 쓰고, 모두 쓰면 시계가 따라올 때까지 대기
+				if (lastSequence == maxSequence) {
+					Thread.onSpinWait();
+					continue;
+				}
+				nextState = lastState + 1;
+			} else if (currentTimeMillis == lastTimeMillis) {
+				if (lastSequence >= maxNormalSequence) {
+					// 현재 ms의 sequence 소진 - lock 없이 다음 ms까지 대기
+					Thread.onSpinWait();
+					continue;
+				}
+				nextState = lastState + 1;
+			} else {
+				nextState = currentTimeMillis << SEQUENCE_BITS;
+			}
 
-		if (currentTimeMillis == lastTimeMillis) {
-			sequence = (sequence + 1) & maxSequence;
-			if (sequence == 0) {
-				currentTimeMillis = waitNextMillis(currentTimeMillis);
+			if (state.compareAndSet(lastState, nextState)) {
+				return toId(nextState);
 			}
-		} else {
-			sequence = 0;
 		}
+	}
 
-		lastTimeMillis = currentTimeMillis;
+	/**
+	 * n개의 ID를 한 번에 발급한다. 한 ms 안에서 남은 sequence를 CAS 한 번으로 통째로 예약한다.
+	 */
+	public long[] nextIds(int n) {
+		long[] ids = new long[n];
+		nextIds(ids, 0, n);
+		return ids;
+	}
 
-		return ((currentTimeMillis - startTimeMillis) << (NODE_ID_BITS + SEQUENCE_BITS))
-			| (nodeId << SEQUENCE_BITS)
-			| sequence;
+	/**
+	 * ids[offset, offset + length)를 새 ID로 채운다. 결과는 오름차순이다.
+	 */
+	public void nextIds(long[] ids, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > ids.length) {
+			throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", size=" + ids.length);
+		}
+		int filled = 0;
+		while (filled < length) {
+			filled += reserve(ids, offset + filled, length - filled);
+		}
 	}
 
-	private long waitNextMillis(long currentTimestamp) {
-		while (currentTimestamp <= lastTimeMillis) {
-			currentTimestamp = System.currentTimeMillis();
+	/**
+	 * 현재 ms에서 최대 length개의 sequence를 예약해 ids에 채우고, 채운 개수를 반환한다.
+	 */
+	private int reserve(long[] ids, int offset, int length) {
+		while (true) {
+			long lastState = state.get();
+			long currentTimeMillis = clock.getAsLong() - startTimeMillis;
+			long lastTimeMillis = lastState >>> SEQUENCE_BITS;
+			long lastSequence = lastState & maxSequence;
+
+			long firstState;
+			long available;
+			if (currentTimeMillis < lastTimeMillis) {
+				if (lastTimeMillis - currentTimeMillis > maxBackwardMillis) {
+					throw new IllegalStateException("Invalid Time");
+				}
+				firstState = lastState + 1;
+				available = maxSequence - lastSequence;
+			} else if (currentTimeMillis == lastTimeMillis) {
+				firstState = lastState + 1;
+				available = maxNormalSequence - lastSequence;
+			} else {
+				firstState = currentTimeMillis << SEQUENCE_BITS;
+				available = maxNormalSequence + 1;
+			}
+
+			if (available <= 0) {
+				Thread.onSpinWait();
+				continue;
+			}
+
+			int count = (int)Math.min(available, length);
+			if (state.compareAndSet(lastState, firstState + count - 1)) {
+				for (int i = 0; i < count; i++) {
+					ids[offset + i] = toId(firstState + i);
+				}
+				return count;
+			}
 		}
-		return currentTimestamp;
+	}
+
+	private long toId(long state) {
+		return ((state >>> SEQUENCE_BITS) << (NODE_ID_BITS + SEQUENCE_BITS))
+			| (nodeId << SEQUENCE_BITS)
+			| (state & maxSequence);
 	}
 }
@@ -0,0 +1,33 @@
+package kuke.board.common.snowflake;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Snowflake 설정 조회 - system property(-Dsnowflake.node-id)를 먼저 보고, 없으면 env(SNOWFLAKE_NODE_ID)를 본다.
+ */
+final class SnowflakeSettings {
+	static final String NODE_ID = "snowflake.node-id";
+	static final String LEASE_DIR = "snowflake.node-id.lease-dir";
+	static final String MAX_BACKWARD_MILLIS = "snowflake.clock-skew.max-backward-millis";
+	static final String RESERVED_SEQUENCE = "snowflake.clock-skew.reserved-sequence";
+
+	private SnowflakeSettings() {
+	}
+
+	static Optional<String> get(String key) {
+		String value = System.getProperty(key);
+		if (value == null) {
+			value = System.getenv(toEnvKey(key));
+		}
+		return Optional.ofNullable(value).map(String::trim).filter(v -> !v.isEmpty());
+	}
+
+	static long getLong(String key, long defaultValue) {
+		return get(key).map(Long::parseLong).orElse(defaultValue);
+	}
+
+	private static String toEnvKey(String key) {
+		return key.replace('.', '_').replace('-', '_').toUpperCase(Locale.ROOT);
+	}
+}
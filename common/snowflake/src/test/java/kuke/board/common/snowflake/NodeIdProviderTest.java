@@ -0,0 +1,52 @@
+package kuke.board.common.snowflake;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class NodeIdProviderTest {
+
+	@TempDir
+	Path leaseDir;
+
+	@Test
+	void configuredNodeIdTest() {
+		System.setProperty(SnowflakeSettings.NODE_ID, "7");
+		try {
+			assertThat(new Snowflake().getNodeId()).isEqualTo(7L);
+		} finally {
+			System.clearProperty(SnowflakeSettings.NODE_ID);
+		}
+	}
+
+	@Test
+	void leaseFileNodeIdTest() {
+		// given
+		LeaseFileNodeIdProvider provider1 = new LeaseFileNodeIdProvider(leaseDir);
+		LeaseFileNodeIdProvider provider2 = new LeaseFileNodeIdProvider(leaseDir);
+
+		// when
+		OptionalLong nodeId1 = provider1.provide();
+		OptionalLong nodeId2 = provider2.provide();
+
+		// then
+		assertThat(nodeId1).hasValue(0L);
+		assertThat(nodeId2).hasValue(1L);
+		assertThat(provider1.provide()).hasValue(0L);
+	}
+
+	@Test
+	void leaseFileNodeIdShouldBeEmptyIfNotConfigured() {
+		assertThat(new LeaseFileNodeIdProvider(null).provide()).isEmpty();
+	}
+
+	@Test
+	void orElseTest() {
+		NodeIdProvider provider = ((NodeIdProvider)OptionalLong::empty).orElse(() -> OptionalLong.of(3L));
+		assertThat(provider.provide()).hasValue(3L);
+	}
+}
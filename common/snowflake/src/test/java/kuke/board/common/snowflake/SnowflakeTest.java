@@ -9,6 +9,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 import org.junit.jupiter.api.Test;
 
@@ -43,9 +45,13 @@ class SnowflakeTest {
 	}
 
 	List<Long> generateIdList(Snowflake snowflake, int count) {
+		return generateIdList(snowflake::nextId, count);
+	}
+
+	List<Long> generateIdList(LongSupplier idSupplier, int count) {
 		List<Long> idList = new ArrayList<>();
 		while (count-- > 0) {
-			idList.add(snowflake.nextId());
+			idList.add(idSupplier.getAsLong());
 		}
 		return idList;
 	}
@@ -74,4 +80,177 @@ class SnowflakeTest {
 
 		executorService.shutdown();
 	}
-}
\ No newline at end of file
+
+	@Test
+	void nextIdContentionPerformanceTest() throws InterruptedException {
+		SynchronizedSnowflake synchronizedSnowflake = new SynchronizedSnowflake();
+		int idCount = 1_000_000;
+
+		for (int threadCount : new int[] {1, 8, 64}) {
+			long synchronizedTimes = measure(synchronizedSnowflake::nextId, threadCount, idCount);
+			long lockFreeTimes = measure(snowflake::nextId, threadCount, idCount);
+			System.out.println("threads = %s, synchronized = %s ms, lock-free = %s ms"
+				.formatted(threadCount, synchronizedTimes / 1_000_000, lockFreeTimes / 1_000_000));
+		}
+	}
+
+	long measure(LongSupplier idSupplier, int threadCount, int idCount) throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+		int idCountPerThread = idCount / threadCount;
+
+		long start = System.nanoTime();
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				for (int j = 0; j < idCountPerThread; j++) {
+					idSupplier.getAsLong();
+				}
+				latch.countDown();
+			});
+		}
+		latch.await();
+		long end = System.nanoTime();
+
+		executorService.shutdown();
+		return end - start;
+	}
+
+	@Test
+	void nextIdShouldBorrowReservedSequenceWhenClockMovesBackwardWithinTolerance() {
+		// given
+		AtomicLong clock = new AtomicLong(1704067200000L + 10_000);
+		Snowflake snowflake = new Snowflake(1L, 100L, 16L, clock::get);
+		long before = snowflake.nextId();
+
+		// when
+		clock.addAndGet(-50);
+		List<Long> idList = generateIdList(snowflake, 16);
+
+		// then
+		assertThat(idList.getFirst()).isGreaterThan(before);
+		for (int i = 1; i < idList.size(); i++) {
+			assertThat(idList.get(i)).isGreaterThan(idList.get(i - 1));
+		}
+	}
+
+	@Test
+	void nextIdShouldFailWhenClockMovesBackwardBeyondTolerance() {
+		// given
+		AtomicLong clock = new AtomicLong(1704067200000L + 10_000);
+		Snowflake snowflake = new Snowflake(1L, 100L, 16L, clock::get);
+		snowflake.nextId();
+
+		// when
+		clock.addAndGet(-101);
+
+		// then
+		assertThatThrownBy(snowflake::nextId).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void createShouldFailIfNodeIdOutOfRange() {
+		assertThatThrownBy(() -> new Snowflake(1024L, 0L, 0L)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new Snowflake(-1L, 0L, 0L)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void nextIdsTest() throws ExecutionException, InterruptedException {
+		// given
+		ExecutorService executorService = Executors.newFixedThreadPool(10);
+		List<Future<long[]>> futures = new ArrayList<>();
+		int repeatCount = 1000;
+		int idCount = 1000;
+
+		// when
+		for (int i = 0; i < repeatCount; i++) {
+			futures.add(executorService.submit(() -> snowflake.nextIds(idCount)));
+		}
+
+		// then
+		List<Long> result = new ArrayList<>();
+		for (Future<long[]> future : futures) {
+			long[] ids = future.get();
+			for (int i = 1; i < ids.length; i++) {
+				assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+			}
+			for (long id : ids) {
+				result.add(id);
+			}
+		}
+		assertThat(result.stream().distinct().count()).isEqualTo(repeatCount * idCount);
+
+		executorService.shutdown();
+	}
+
+	@Test
+	void idSupplierTest() throws ExecutionException, InterruptedException {
+		// given
+		IdSupplier idSupplier = new IdSupplier(snowflake);
+		ExecutorService executorService = Executors.newFixedThreadPool(10);
+		List<Future<List<Long>>> futures = new ArrayList<>();
+		int repeatCount = 1000;
+		int idCount = 1000;
+
+		// when
+		for (int i = 0; i < repeatCount; i++) {
+			futures.add(executorService.submit(() -> generateIdList(idSupplier::nextId, idCount)));
+		}
+
+		// then
+		List<Long> result = new ArrayList<>();
+		for (Future<List<Long>> future : futures) {
+			result.addAll(future.get());
+		}
+		assertThat(result.stream().distinct().count()).isEqualTo(repeatCount * idCount);
+
+		executorService.shutdown();
+	}
+
+	@Test
+	void idSupplierNextIdAfterTest() {
+		IdSupplier idSupplier = new IdSupplier(snowflake);
+		idSupplier.nextId();
+		long parentId = snowflake.nextId();
+
+		assertThat(idSupplier.nextIdAfter(parentId)).isGreaterThan(parentId);
+	}
+
+	@Test
+	void idSupplierNextIdAfterFutureIdTest() {
+		IdSupplier idSupplier = new IdSupplier(snowflake);
+		int timestampShift = 22; // NODE_ID_BITS + SEQUENCE_BITS
+
+		// 시계가 50ms 앞선 다른 노드의 ID - 따라잡을 때까지 기다린 뒤 더 큰 ID를 발급한다.
+		long nearFutureId = snowflake.nextId() + (50L << timestampShift);
+		assertThat(idSupplier.nextIdAfter(nearFutureId)).isGreaterThan(nearFutureId);
+
+		// 너무 앞선 ID면 기다리지 않고 실패한다.
+		long farFutureId = snowflake.nextId() + (60_000L << timestampShift);
+		assertThatThrownBy(() -> idSupplier.nextIdAfter(farFutureId))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void nextIdsPerformanceTest() throws InterruptedException {
+		int threadCount = Runtime.getRuntime().availableProcessors();
+		int idCount = 4_000_000;
+		IdSupplier idSupplier = new IdSupplier(snowflake);
+		int batchSize = 256;
+
+		long nextIdTimes = measure(snowflake::nextId, threadCount, idCount);
+		long nextIdsTimes = measure(() -> snowflake.nextIds(batchSize)[0], threadCount, idCount / batchSize);
+		long idSupplierTimes = measure(idSupplier::nextId, threadCount, idCount);
+
+		System.out.println("cores = %s, nextId = %s ids/sec/core, nextIds(256) = %s ids/sec/core, IdSupplier = %s ids/sec/core"
+			.formatted(
+				threadCount,
+				idsPerSecondPerCore(idCount, nextIdTimes, threadCount),
+				idsPerSecondPerCore(idCount, nextIdsTimes, threadCount),
+				idsPerSecondPerCore(idCount, idSupplierTimes, threadCount)
+			));
+	}
+
+	long idsPerSecondPerCore(int idCount, long nanos, int threadCount) {
+		return (long)(idCount / (nanos / 1_000_000_000.0) / threadCount);
+	}
+}
@@ -0,0 +1,48 @@
+package jamm.board.articleread.client;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class ArticleClient {
+    private final RestClient restClient;
+
+    public ArticleClient(@Value("${endpoints.jamm-board-article-service.url}") String articleServiceUrl) {
+        this.restClient = RestClient.create(articleServiceUrl);
+    }
+
+    /**
+     * 없는(삭제된) 게시글이면 empty
+     * 게시글 서비스가 응답하지 않으면 RestClientException - 없는 게시글과 구분한다.
+     */
+    public Optional<ArticleResponse> read(Long articleId) {
+        try {
+            return Optional.ofNullable(restClient.get()
+                    .uri("/v1/articles/{articleId}", articleId)
+                    .retrieve()
+                    .body(ArticleResponse.class));
+        } catch (HttpClientErrorException.NotFound e) {
+            log.debug("[ArticleClient.read] not found. articleId={}", articleId);
+            return Optional.empty();
+        }
+    }
+
+    @Getter
+    public static class ArticleResponse {
+        private Long articleId;
+        private String title;
+        private String content;
+        private Long boardId;
+        private Long writerId;
+        private LocalDateTime createdAt;
+        private LocalDateTime modifiedAt;
+    }
+}
@@ -0,0 +1,30 @@
+package jamm.board.articleread.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.Map;
+
+@Component
+public class CommentClient {
+    private final RestClient restClient;
+
+    public CommentClient(@Value("${endpoints.jamm-board-comment-service.url}") String commentServiceUrl) {
+        this.restClient = RestClient.create(commentServiceUrl);
+    }
+
+    /**
+     * 댓글 수 - 댓글 서비스가 응답하지 않으면 RestClientException
+     * (0으로 채운 모델이 캐시되지 않도록 실패를 그대로 던진다.)
+     */
+    public long count(Long articleId) {
+        Map<Long, Long> counts = restClient.get()
+                .uri("/v1/comments/counts?articleIds={articleId}", articleId)
+                .retrieve()
+                .body(new ParameterizedTypeReference<Map<Long, Long>>() {
+                });
+        return counts == null ? 0L : counts.getOrDefault(articleId, 0L);
+    }
+}
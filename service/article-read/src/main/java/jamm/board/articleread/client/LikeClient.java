@@ -0,0 +1,26 @@
+package jamm.board.articleread.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+@Component
+public class LikeClient {
+    private final RestClient restClient;
+
+    public LikeClient(@Value("${endpoints.jamm-board-like-service.url}") String likeServiceUrl) {
+        this.restClient = RestClient.create(likeServiceUrl);
+    }
+
+    /**
+     * 좋아요 수 - 좋아요 서비스가 응답하지 않으면 RestClientException
+     * (0으로 채운 모델이 캐시되지 않도록 실패를 그대로 던진다.)
+     */
+    public long count(Long articleId) {
+        Long count = restClient.get()
+                .uri("/v1/article-likes/articles/{articleId}/count", articleId)
+                .retrieve()
+                .body(Long.class);
+        return count == null ? 0L : count;
+    }
+}
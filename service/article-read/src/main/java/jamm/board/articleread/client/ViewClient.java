@@ -0,0 +1,26 @@
+package jamm.board.articleread.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+@Component
+public class ViewClient {
+    private final RestClient restClient;
+
+    public ViewClient(@Value("${endpoints.jamm-board-view-service.url}") String viewServiceUrl) {
+        this.restClient = RestClient.create(viewServiceUrl);
+    }
+
+    /**
+     * 조회수 - 조회수 서비스가 응답하지 않으면 RestClientException
+     * (0으로 채운 모델이 캐시되지 않도록 실패를 그대로 던진다.)
+     */
+    public long count(Long articleId) {
+        Long count = restClient.get()
+                .uri("/v1/article-views/articles/{articleId}/count", articleId)
+                .retrieve()
+                .body(Long.class);
+        return count == null ? 0L : count;
+    }
+}
@@ -0,0 +1,50 @@
+package jamm.board.articleread.controller;
+
+import jamm.board.articleread.service.ArticleReadService;
+import jamm.board.articleread.service.request.ArticleReadEventRequest;
+import jamm.board.articleread.service.response.ArticleReadResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.client.RestClientException;
+
+import java.util.NoSuchElementException;
+
+@RestController
+@RequiredArgsConstructor
+public class ArticleReadController {
+
+    private final ArticleReadService articleReadService;
+
+    @GetMapping("/v1/articles/{articleId}")
+    public ArticleReadResponse read(@PathVariable("articleId") Long articleId) {
+        return articleReadService.read(articleId);
+    }
+
+    @PostMapping("/v1/articles/events")
+    public void handleEvent(@RequestBody ArticleReadEventRequest request) {
+        articleReadService.handleEvent(request);
+    }
+
+    /**
+     * 필수 값(count 이벤트의 version 등)이 없는 이벤트는 400으로 응답한다.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<String> handleNoSuchElement(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+
+    /**
+     * 원본 서비스가 응답하지 않아 모델을 만들 수 없으면 503으로 응답한다. (없는 게시글의 404와 구분)
+     */
+    @ExceptionHandler(RestClientException.class)
+    public ResponseEntity<String> handleRestClient(RestClientException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+}
@@ -0,0 +1,134 @@
+package jamm.board.articleread.repository;
+
+import jamm.board.articleread.client.ArticleClient;
+import jamm.board.articleread.service.request.ArticleReadEventRequest;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 조회용 모델 - 게시글, 댓글 수, 좋아요 수, 조회수를 한 곳에 모아둔다.
+ * 바뀌지 않는다. 이벤트는 새 모델을 만들어 교체한다. (읽는 쪽은 lock 없이 읽는다.)
+ * count마다 마지막으로 반영한 version을 두고, 그보다 오래된 count 이벤트는 무시한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ArticleQueryModel {
+    private final Long articleId;
+    private final String title;
+    private final String content;
+    private final Long boardId;
+    private final Long writerId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+    private final Long articleCommentCount;
+    private final Long articleLikeCount;
+    private final Long articleViewCount;
+    private final long articleCommentCountVersion;
+    private final long articleLikeCountVersion;
+    private final long articleViewCountVersion;
+
+    public static ArticleQueryModel create(ArticleReadEventRequest request) {
+        return new ArticleQueryModel(
+                request.getArticleId(),
+                request.getTitle(),
+                request.getContent(),
+                request.getBoardId(),
+                request.getWriterId(),
+                request.getCreatedAt(),
+                request.getModifiedAt(),
+                0L,
+                0L,
+                0L,
+                0L,
+                0L,
+                0L
+        );
+    }
+
+    /**
+     * countVersion - count를 읽기 시작한 시각(epoch millis)에서 원본 서비스와의 시계 차이만큼 뺀 값.
+     * 그 전에 바뀐 count는 이미 읽은 값에 들어 있다.
+     */
+    public static ArticleQueryModel create(
+            ArticleClient.ArticleResponse article,
+            Long articleCommentCount,
+            Long articleLikeCount,
+            Long articleViewCount,
+            long countVersion
+    ) {
+        return new ArticleQueryModel(
+                article.getArticleId(),
+                article.getTitle(),
+                article.getContent(),
+                article.getBoardId(),
+                article.getWriterId(),
+                article.getCreatedAt(),
+                article.getModifiedAt(),
+                articleCommentCount,
+                articleLikeCount,
+                articleViewCount,
+                countVersion,
+                countVersion,
+                countVersion
+        );
+    }
+
+    public ArticleQueryModel updatedBy(ArticleReadEventRequest request) {
+        return new ArticleQueryModel(
+                articleId,
+                request.getTitle(),
+                request.getContent(),
+                request.getBoardId(),
+                request.getWriterId(),
+                request.getCreatedAt(),
+                request.getModifiedAt(),
+                articleCommentCount,
+                articleLikeCount,
+                articleViewCount,
+                articleCommentCountVersion,
+                articleLikeCountVersion,
+                articleViewCountVersion
+        );
+    }
+
+    /**
+     * version이 마지막으로 반영한 것보다 오래되었으면 그대로 둔다. (아래 두 메서드도 같다.)
+     */
+    public ArticleQueryModel withArticleCommentCount(Long articleCommentCount, long version) {
+        if (version < articleCommentCountVersion) {
+            return this;
+        }
+        return new ArticleQueryModel(
+                articleId, title, content, boardId, writerId, createdAt, modifiedAt,
+                articleCommentCount, articleLikeCount, articleViewCount,
+                version, articleLikeCountVersion, articleViewCountVersion
+        );
+    }
+
+    public ArticleQueryModel withArticleLikeCount(Long articleLikeCount, long version) {
+        if (version < articleLikeCountVersion) {
+            return this;
+        }
+        return new ArticleQueryModel(
+                articleId, title, content, boardId, writerId, createdAt, modifiedAt,
+                articleCommentCount, articleLikeCount, articleViewCount,
+                articleCommentCountVersion, version, articleViewCountVersion
+        );
+    }
+
+    public ArticleQueryModel withArticleViewCount(Long articleViewCount, long version) {
+        if (version < articleViewCountVersion) {
+            return this;
+        }
+        return new ArticleQueryModel(
+                articleId, title, content, boardId, writerId, createdAt, modifiedAt,
+                articleCommentCount, articleLikeCount, articleViewCount,
+                articleCommentCountVersion, articleLikeCountVersion, version
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package jamm.board.articleread.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 게시글 id -> ArticleQueryModel (메모리)
+ * - 이벤트로 갱신하므로 TTL은 이벤트를 놓쳤을 때를 대비한 것이다.
+ * - 없는 모델을 만드는 동안 같은 게시글의 다른 조회와 이벤트는 기다린다. (Caffeine compute)
+ */
+@Repository
+public class ArticleQueryModelRepository {
+    private final Cache<Long, ArticleQueryModel> articleQueryModels;
+
+    public ArticleQueryModelRepository(
+            @Value("${article-read.query-model.max-size:100000}") long maxSize,
+            @Value("${article-read.query-model.expire-after-write-minutes:60}") long expireAfterWriteMinutes,
+            MeterRegistry meterRegistry
+    ) {
+        this.articleQueryModels = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, articleQueryModels, "article.query-model");
+    }
+
+    public Optional<ArticleQueryModel> read(Long articleId) {
+        return Optional.ofNullable(articleQueryModels.getIfPresent(articleId));
+    }
+
+    /**
+     * 없으면 loader로 만든다. loader가 null을 반환하면 저장하지 않는다.
+     * loader가 예외를 던져도 저장하지 않고 그대로 던진다. (일부만 읽은 모델은 캐시하지 않는다.)
+     */
+    public Optional<ArticleQueryModel> read(Long articleId, Function<Long, ArticleQueryModel> loader) {
+        return Optional.ofNullable(articleQueryModels.get(articleId, loader));
+    }
+
+    /**
+     * 이미 있으면 그대로 둔다. 늦게 도착한 생성 이벤트가 원본 서비스에서 읽은 모델의 count를 0으로 덮지 않게 한다.
+     */
+    public void create(ArticleQueryModel articleQueryModel) {
+        articleQueryModels.asMap().putIfAbsent(articleQueryModel.getArticleId(), articleQueryModel);
+    }
+
+    /**
+     * 모델이 있을 때만 updater가 만든 새 모델로 교체한다. 없으면 다음 조회 때 원본 서비스에서 최신 값으로 만든다.
+     */
+    public void update(Long articleId, UnaryOperator<ArticleQueryModel> updater) {
+        articleQueryModels.asMap().computeIfPresent(articleId, (key, articleQueryModel) -> updater.apply(articleQueryModel));
+    }
+
+    public void delete(Long articleId) {
+        articleQueryModels.invalidate(articleId);
+    }
+}
@@ -0,0 +1,10 @@
+package jamm.board.articleread.service;
+
+public enum ArticleReadEventType {
+    ARTICLE_CREATED,
+    ARTICLE_UPDATED,
+    ARTICLE_DELETED,
+    COMMENT_COUNT_CHANGED,
+    LIKE_COUNT_CHANGED,
+    VIEW_COUNT_CHANGED
+}
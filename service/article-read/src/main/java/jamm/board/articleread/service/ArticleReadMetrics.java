@@ -0,0 +1,48 @@
+package jamm.board.articleread.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /actuator/metrics 로 확인한다.
+ * - article.read.latency{source=query-model|origin}: 조회 시간
+ * - article.read.fan-out.avoided: 모델로 응답해서 생략한 원본 서비스 호출 수
+ * - article.read.fan-out: 모델이 없어서 원본 서비스를 호출한 수
+ */
+@Component
+public class ArticleReadMetrics {
+    // 게시글, 댓글 수, 좋아요 수, 조회수
+    public static final int ORIGIN_CALLS_PER_READ = 4;
+
+    private final Timer queryModelLatency;
+    private final Timer originLatency;
+    private final Counter fanOutAvoided;
+    private final Counter fanOut;
+
+    public ArticleReadMetrics(MeterRegistry meterRegistry) {
+        this.queryModelLatency = Timer.builder("article.read.latency")
+                .tag("source", "query-model")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.originLatency = Timer.builder("article.read.latency")
+                .tag("source", "origin")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.fanOutAvoided = meterRegistry.counter("article.read.fan-out.avoided");
+        this.fanOut = meterRegistry.counter("article.read.fan-out");
+    }
+
+    public void recordQueryModelRead(long nanos) {
+        queryModelLatency.record(nanos, TimeUnit.NANOSECONDS);
+        fanOutAvoided.increment(ORIGIN_CALLS_PER_READ);
+    }
+
+    public void recordOriginRead(long nanos) {
+        originLatency.record(nanos, TimeUnit.NANOSECONDS);
+        fanOut.increment(ORIGIN_CALLS_PER_READ);
+    }
+}
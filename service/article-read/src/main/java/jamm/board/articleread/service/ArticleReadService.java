@@ -0,0 +1,108 @@
+package jamm.board.articleread.service;
+
+import jamm.board.articleread.client.ArticleClient;
+import jamm.board.articleread.client.CommentClient;
+import jamm.board.articleread.client.LikeClient;
+import jamm.board.articleread.client.ViewClient;
+import jamm.board.articleread.repository.ArticleQueryModel;
+import jamm.board.articleread.repository.ArticleQueryModelRepository;
+import jamm.board.articleread.service.request.ArticleReadEventRequest;
+import jamm.board.articleread.service.response.ArticleReadResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.NoSuchElementException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleReadService {
+    private final ArticleClient articleClient;
+    private final CommentClient commentClient;
+    private final LikeClient likeClient;
+    private final ViewClient viewClient;
+    private final ArticleQueryModelRepository articleQueryModelRepository;
+    private final ArticleReadMetrics articleReadMetrics;
+
+    // count 이벤트의 version은 원본 서비스의 시계다. 이 서버 시계가 원본보다 이만큼 빠른 것까지 허용한다.
+    @Value("${article-read.query-model.max-clock-skew-millis:5000}")
+    private long maxClockSkewMillis;
+
+    /**
+     * 게시글 상세 - 모델이 있으면 한 번의 메모리 조회로 응답하고,
+     * 없으면 원본 서비스 4곳에서 읽어 모델을 만든 뒤 응답한다.
+     * - 없는 게시글이면 NoSuchElementException
+     * - 원본 서비스가 응답하지 않으면 RestClientException
+     */
+    public ArticleReadResponse read(Long articleId) {
+        long start = System.nanoTime();
+        boolean[] fetched = new boolean[1];
+        ArticleQueryModel articleQueryModel = articleQueryModelRepository.read(articleId, id -> {
+            fetched[0] = true;
+            return fetch(id);
+        }).orElseThrow(() -> new NoSuchElementException("article not found. articleId=" + articleId));
+
+        long nanos = System.nanoTime() - start;
+        if (fetched[0]) {
+            articleReadMetrics.recordOriginRead(nanos);
+        } else {
+            articleReadMetrics.recordQueryModelRead(nanos);
+        }
+        return ArticleReadResponse.from(articleQueryModel);
+    }
+
+    /**
+     * 없는(삭제된) 게시글이면 null - 모델을 만들지 않는다.
+     */
+    private ArticleQueryModel fetch(Long articleId) {
+        return articleClient.read(articleId)
+                .map(article -> {
+                    // count를 읽기 전 시각 - 이보다 오래된 count 이벤트는 읽은 값에 이미 들어 있다.
+                    // 원본 서비스의 시계가 느릴 수 있으므로 maxClockSkewMillis만큼 앞당긴다. (실제 변경을 오래된 것으로 버리지 않게)
+                    long countVersion = System.currentTimeMillis() - maxClockSkewMillis;
+                    return ArticleQueryModel.create(
+                            article,
+                            commentClient.count(articleId),
+                            likeClient.count(articleId),
+                            viewClient.count(articleId),
+                            countVersion
+                    );
+                })
+                .orElse(null);
+    }
+
+    /**
+     * count 이벤트는 version이 모델의 것보다 오래되었으면 무시한다. (늦게 도착한 이벤트가 최신 count를 덮지 않는다.)
+     */
+    public void handleEvent(ArticleReadEventRequest request) {
+        validate(request);
+        Long articleId = request.getArticleId();
+        switch (request.getType()) {
+            case ARTICLE_CREATED -> articleQueryModelRepository.create(ArticleQueryModel.create(request));
+            case ARTICLE_UPDATED -> articleQueryModelRepository.update(articleId, model -> model.updatedBy(request));
+            case ARTICLE_DELETED -> articleQueryModelRepository.delete(articleId);
+            case COMMENT_COUNT_CHANGED ->
+                    articleQueryModelRepository.update(articleId, model -> model.withArticleCommentCount(request.getCount(), request.getVersion()));
+            case LIKE_COUNT_CHANGED ->
+                    articleQueryModelRepository.update(articleId, model -> model.withArticleLikeCount(request.getCount(), request.getVersion()));
+            case VIEW_COUNT_CHANGED ->
+                    articleQueryModelRepository.update(articleId, model -> model.withArticleViewCount(request.getCount(), request.getVersion()));
+        }
+        log.debug("[ArticleReadService.handleEvent] type={}, articleId={}", request.getType(), articleId);
+    }
+
+    private void validate(ArticleReadEventRequest request) {
+        if (request.getType() == null || request.getArticleId() == null) {
+            throw new IllegalArgumentException("type and articleId are required");
+        }
+        boolean countChanged = switch (request.getType()) {
+            case COMMENT_COUNT_CHANGED, LIKE_COUNT_CHANGED, VIEW_COUNT_CHANGED -> true;
+            default -> false;
+        };
+        if (countChanged && (request.getCount() == null || request.getVersion() == null)) {
+            throw new IllegalArgumentException("count and version are required. type=" + request.getType());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package jamm.board.articleread.service.request;
+
+import jamm.board.articleread.service.ArticleReadEventType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원본 서비스의 변경 이벤트
+ * - ARTICLE_CREATED, ARTICLE_UPDATED: 게시글 필드
+ * - *_COUNT_CHANGED: 변경 후의 count와 version
+ *   version은 원본 서비스에서 count를 바꾼 시각(epoch millis)이다. 같은 게시글의 같은 count는 version이 클수록 최신이다.
+ */
+@Getter
+public class ArticleReadEventRequest {
+    private ArticleReadEventType type;
+    private Long articleId;
+    private String title;
+    private String content;
+    private Long boardId;
+    private Long writerId;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    private Long count;
+    private Long version;
+}
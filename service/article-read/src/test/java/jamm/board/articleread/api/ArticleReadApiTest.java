@@ -0,0 +1,55 @@
+package jamm.board.articleread.api;
+
+import jamm.board.articleread.service.ArticleReadEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.util.Map;
+
+public class ArticleReadApiTest {
+
+    RestClient restClient = RestClient.create("http://localhost:9005");
+
+    @Test
+    void readTest() {
+        Map<?, ?> response = restClient.get()
+                .uri("/v1/articles/{articleId}", 1L)
+                .retrieve()
+                .body(Map.class);
+
+        System.out.println("response = " + response);
+    }
+
+    @Test
+    void handleEventTest() {
+        restClient.post()
+                .uri("/v1/articles/events")
+                .body(new ArticleReadEventRequest(ArticleReadEventType.LIKE_COUNT_CHANGED, 1L, 10L, System.currentTimeMillis()))
+                .retrieve()
+                .toBodilessEntity();
+
+        readTest();
+    }
+
+    @Test
+    void metricsTest() {
+        for (String name : new String[]{"article.read.latency", "article.read.fan-out", "article.read.fan-out.avoided"}) {
+            Map<?, ?> response = restClient.get()
+                    .uri("/actuator/metrics/{name}", name)
+                    .retrieve()
+                    .body(Map.class);
+            System.out.println(name + " = " + response.get("measurements"));
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ArticleReadEventRequest {
+        private ArticleReadEventType type;
+        private Long articleId;
+        private Long count;
+        private Long version;
+    }
+}
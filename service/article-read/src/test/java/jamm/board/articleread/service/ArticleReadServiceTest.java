@@ -0,0 +1,339 @@
+package jamm.board.articleread.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jamm.board.articleread.client.ArticleClient;
+import jamm.board.articleread.client.CommentClient;
+import jamm.board.articleread.client.LikeClient;
+import jamm.board.articleread.client.ViewClient;
+import jamm.board.articleread.repository.ArticleQueryModel;
+import jamm.board.articleread.repository.ArticleQueryModelRepository;
+import jamm.board.articleread.service.request.ArticleReadEventRequest;
+import jamm.board.articleread.service.response.ArticleReadResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleReadServiceTest {
+
+    ArticleReadService articleReadService;
+
+    @Mock
+    ArticleClient articleClient;
+
+    @Mock
+    CommentClient commentClient;
+
+    @Mock
+    LikeClient likeClient;
+
+    @Mock
+    ViewClient viewClient;
+
+    SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        articleReadService = new ArticleReadService(
+                articleClient,
+                commentClient,
+                likeClient,
+                viewClient,
+                new ArticleQueryModelRepository(1000L, 60L, meterRegistry),
+                new ArticleReadMetrics(meterRegistry)
+        );
+    }
+
+    @Test
+    @DisplayName("모델이 없으면 원본 서비스 4곳에서 읽어 만들고, 다음 조회부터는 원본 서비스를 호출하지 않는다.")
+    void readShouldFallbackToOriginOnlyOnce() {
+        //given
+        given(articleClient.read(1L)).willReturn(Optional.of(createArticle(1L)));
+        given(commentClient.count(1L)).willReturn(2L);
+        given(likeClient.count(1L)).willReturn(3L);
+        given(viewClient.count(1L)).willReturn(4L);
+
+        //when
+        ArticleReadResponse first = articleReadService.read(1L);
+        ArticleReadResponse second = articleReadService.read(1L);
+
+        //then
+        assertThat(first.getTitle()).isEqualTo("title");
+        assertThat(second.getArticleCommentCount()).isEqualTo(2L);
+        assertThat(second.getArticleLikeCount()).isEqualTo(3L);
+        assertThat(second.getArticleViewCount()).isEqualTo(4L);
+        verify(articleClient, times(1)).read(1L);
+        verify(viewClient, times(1)).count(1L);
+        assertThat(meterRegistry.counter("article.read.fan-out").count()).isEqualTo(4.0);
+        assertThat(meterRegistry.counter("article.read.fan-out.avoided").count()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("이벤트로 만든 모델은 원본 서비스 호출 없이 읽고, 이후 이벤트가 반영된다.")
+    void readShouldServeModelBuiltFromEvents() {
+        //given
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.ARTICLE_CREATED, 1L, null));
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.COMMENT_COUNT_CHANGED, 1L, 5L));
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.LIKE_COUNT_CHANGED, 1L, 6L));
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.VIEW_COUNT_CHANGED, 1L, 7L));
+
+        //when
+        ArticleReadResponse response = articleReadService.read(1L);
+
+        //then
+        assertThat(response.getTitle()).isEqualTo("title");
+        assertThat(response.getArticleCommentCount()).isEqualTo(5L);
+        assertThat(response.getArticleLikeCount()).isEqualTo(6L);
+        assertThat(response.getArticleViewCount()).isEqualTo(7L);
+        verifyNoInteractions(articleClient, commentClient, likeClient, viewClient);
+    }
+
+    @Test
+    @DisplayName("이벤트는 모델을 바꾸지 않고 새 모델로 교체한다.")
+    void eventShouldReplaceModel() {
+        //given
+        ArticleQueryModelRepository repository = new ArticleQueryModelRepository(1000L, 60L, meterRegistry);
+        repository.create(ArticleQueryModel.create(createEvent(ArticleReadEventType.ARTICLE_CREATED, 1L, null)));
+        ArticleQueryModel before = repository.read(1L).orElseThrow();
+
+        //when
+        repository.update(1L, model -> model.withArticleLikeCount(6L, 1L));
+
+        //then
+        assertThat(before.getArticleLikeCount()).isEqualTo(0L);
+        assertThat(repository.read(1L).orElseThrow().getArticleLikeCount()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 오래된 version의 count 이벤트는 무시한다.")
+    void staleCountEventShouldBeIgnored() {
+        //given
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.ARTICLE_CREATED, 1L, null));
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.LIKE_COUNT_CHANGED, 1L, 6L, 20L));
+
+        //when
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.LIKE_COUNT_CHANGED, 1L, 5L, 10L));
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.VIEW_COUNT_CHANGED, 1L, 7L, 10L));
+
+        //then
+        ArticleReadResponse response = articleReadService.read(1L);
+        assertThat(response.getArticleLikeCount()).isEqualTo(6L);
+        assertThat(response.getArticleViewCount()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("원본 서비스에서 count를 읽기 전에 바뀐 count 이벤트는 무시한다.")
+    void countEventOlderThanFetchShouldBeIgnored() {
+        //given
+        long beforeFetch = System.currentTimeMillis() - 1;
+        given(articleClient.read(1L)).willReturn(Optional.of(createArticle(1L)));
+        given(likeClient.count(1L)).willReturn(3L);
+        articleReadService.read(1L);
+
+        //when
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.LIKE_COUNT_CHANGED, 1L, 2L, beforeFetch));
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.VIEW_COUNT_CHANGED, 1L, 9L, System.currentTimeMillis() + 1));
+
+        //then
+        ArticleReadResponse response = articleReadService.read(1L);
+        assertThat(response.getArticleLikeCount()).isEqualTo(3L);
+        assertThat(response.getArticleViewCount()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("이 서버 시계가 원본 서비스보다 빨라도, 허용한 차이 안의 count 변경은 버리지 않는다.")
+    void countEventWithinClockSkewShouldBeApplied() {
+        //given - 원본 서비스 시계가 3초 느리다.
+        ReflectionTestUtils.setField(articleReadService, "maxClockSkewMillis", 5000L);
+        given(articleClient.read(1L)).willReturn(Optional.of(createArticle(1L)));
+        given(likeClient.count(1L)).willReturn(3L);
+        articleReadService.read(1L);
+
+        //when - 원본에서 읽은 뒤에 바뀐 count
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.LIKE_COUNT_CHANGED, 1L, 4L, System.currentTimeMillis() - 3000));
+
+        //then
+        assertThat(articleReadService.read(1L).getArticleLikeCount()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 생성 이벤트는 원본 서비스에서 읽은 모델을 덮지 않는다.")
+    void lateCreatedEventShouldNotOverwriteModel() {
+        //given
+        given(articleClient.read(1L)).willReturn(Optional.of(createArticle(1L)));
+        given(commentClient.count(1L)).willReturn(2L);
+        given(likeClient.count(1L)).willReturn(3L);
+        given(viewClient.count(1L)).willReturn(4L);
+        articleReadService.read(1L);
+
+        //when
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.ARTICLE_CREATED, 1L, null));
+
+        //then
+        ArticleReadResponse response = articleReadService.read(1L);
+        assertThat(response.getArticleCommentCount()).isEqualTo(2L);
+        assertThat(response.getArticleLikeCount()).isEqualTo(3L);
+        assertThat(response.getArticleViewCount()).isEqualTo(4L);
+        verify(articleClient, times(1)).read(1L);
+    }
+
+    @Test
+    @DisplayName("version이 없는 count 이벤트는 받지 않는다.")
+    void countEventWithoutVersionShouldBeRejected() {
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.ARTICLE_CREATED, 1L, null));
+
+        assertThatThrownBy(() -> articleReadService.handleEvent(
+                createEvent(ArticleReadEventType.LIKE_COUNT_CHANGED, 1L, 5L, null)
+        )).isInstanceOf(IllegalArgumentException.class);
+        assertThat(articleReadService.read(1L).getArticleLikeCount()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("모델이 없는 게시글의 count 이벤트는 무시하고, 조회할 때 원본 서비스의 최신 값을 읽는다.")
+    void countEventShouldBeIgnoredIfModelAbsent() {
+        //given
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.LIKE_COUNT_CHANGED, 1L, 100L));
+        given(articleClient.read(1L)).willReturn(Optional.of(createArticle(1L)));
+        given(likeClient.count(1L)).willReturn(3L);
+
+        //when
+        ArticleReadResponse response = articleReadService.read(1L);
+
+        //then
+        assertThat(response.getArticleLikeCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트 후에는 모델을 지우고, 없는 게시글은 모델을 만들지 않고 실패한다.")
+    void readShouldFailIfArticleDeleted() {
+        //given
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.ARTICLE_CREATED, 1L, null));
+        articleReadService.handleEvent(createEvent(ArticleReadEventType.ARTICLE_DELETED, 1L, null));
+        given(articleClient.read(1L)).willReturn(Optional.empty());
+
+        //when, then
+        assertThatThrownBy(() -> articleReadService.read(1L))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> articleReadService.read(1L))
+                .isInstanceOf(NoSuchElementException.class);
+        verify(articleClient, times(2)).read(1L);
+        verify(commentClient, never()).count(any());
+    }
+
+    @Test
+    @DisplayName("게시글 서비스가 응답하지 않으면 없는 게시글(NoSuchElementException)과 다른 예외로 실패한다.")
+    void readShouldDistinguishOriginFailureFromNotFound() {
+        //given
+        given(articleClient.read(1L)).willThrow(new ResourceAccessException("article service down"));
+
+        //when, then
+        assertThatThrownBy(() -> articleReadService.read(1L))
+                .isInstanceOf(ResourceAccessException.class);
+        verify(commentClient, never()).count(any());
+    }
+
+    @Test
+    @DisplayName("count를 읽지 못하면 조회는 실패하고, 0으로 채운 모델을 캐시하지 않는다.")
+    void readShouldNotCachePartialModel() {
+        //given
+        given(articleClient.read(1L)).willReturn(Optional.of(createArticle(1L)));
+        given(commentClient.count(1L)).willReturn(2L);
+        given(likeClient.count(1L))
+                .willThrow(new ResourceAccessException("like service down"))
+                .willReturn(3L);
+        given(viewClient.count(1L)).willReturn(4L);
+
+        //when
+        assertThatThrownBy(() -> articleReadService.read(1L))
+                .isInstanceOf(ResourceAccessException.class);
+        ArticleReadResponse response = articleReadService.read(1L);
+
+        //then
+        assertThat(response.getArticleLikeCount()).isEqualTo(3L);
+        verify(articleClient, times(2)).read(1L);
+    }
+
+    /**
+     * 조회 지연 - 모델 조회 vs 원본 서비스 4곳 호출 (호출마다 1ms 지연을 가정)
+     */
+    @Test
+    void readLatencyTest() {
+        int articleCount = 100;
+        for (long articleId = 1; articleId <= articleCount; articleId++) {
+            long id = articleId;
+            given(articleClient.read(id)).willAnswer(invocation -> {
+                Thread.sleep(1);
+                return Optional.of(createArticle(id));
+            });
+        }
+        given(commentClient.count(any())).willAnswer(invocation -> sleepAndReturn(1L));
+        given(likeClient.count(any())).willAnswer(invocation -> sleepAndReturn(1L));
+        given(viewClient.count(any())).willAnswer(invocation -> sleepAndReturn(1L));
+
+        for (long articleId = 1; articleId <= articleCount; articleId++) {
+            articleReadService.read(articleId);
+        }
+        int reads = 100_000;
+        for (int i = 0; i < reads; i++) {
+            articleReadService.read((long) (i % articleCount) + 1);
+        }
+
+        double originMillis = meterRegistry.timer("article.read.latency", "source", "origin").mean(TimeUnit.MILLISECONDS);
+        double modelMicros = meterRegistry.timer("article.read.latency", "source", "query-model").mean(TimeUnit.MICROSECONDS);
+        System.out.println("origin = %.2fms, query model = %.2fus, fan-out avoided = %.0f calls".formatted(
+                originMillis,
+                modelMicros,
+                meterRegistry.counter("article.read.fan-out.avoided").count()
+        ));
+        assertThat(meterRegistry.counter("article.read.fan-out").count()).isEqualTo(articleCount * 4.0);
+        assertThat(meterRegistry.counter("article.read.fan-out.avoided").count()).isEqualTo(reads * 4.0);
+    }
+
+    private long sleepAndReturn(long count) throws InterruptedException {
+        Thread.sleep(1);
+        return count;
+    }
+
+    private ArticleClient.ArticleResponse createArticle(Long articleId) {
+        ArticleClient.ArticleResponse article = new ArticleClient.ArticleResponse();
+        ReflectionTestUtils.setField(article, "articleId", articleId);
+        ReflectionTestUtils.setField(article, "title", "title");
+        ReflectionTestUtils.setField(article, "content", "content");
+        ReflectionTestUtils.setField(article, "boardId", 1L);
+        ReflectionTestUtils.setField(article, "writerId", 1L);
+        return article;
+    }
+
+    private ArticleReadEventRequest createEvent(ArticleReadEventType type, Long articleId, Long count) {
+        return createEvent(type, articleId, count, 1L);
+    }
+
+    private ArticleReadEventRequest createEvent(ArticleReadEventType type, Long articleId, Long count, Long version) {
+        ArticleReadEventRequest request = new ArticleReadEventRequest();
+        ReflectionTestUtils.setField(request, "type", type);
+        ReflectionTestUtils.setField(request, "articleId", articleId);
+        ReflectionTestUtils.setField(request, "title", "title");
+        ReflectionTestUtils.setField(request, "content", "content");
+        ReflectionTestUtils.setField(request, "boardId", 1L);
+        ReflectionTestUtils.setField(request, "writerId", 1L);
+        ReflectionTestUtils.setField(request, "count", count);
+        ReflectionTestUtils.setField(request, "version", version);
+        return request;
+    }
+}
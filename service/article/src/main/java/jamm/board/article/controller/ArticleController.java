@@ -1,19 +1,32 @@
 package jamm.board.article.controller;
 
+import jamm.board.article.service.ArticleBulkService;
+import jamm.board.article.service.ArticlePageStreamWriter;
 import jamm.board.article.service.ArticleService;
 import jamm.board.article.service.request.ArticleCreateRequest;
 import jamm.board.article.service.request.ArticleUpdateRequest;
+import jamm.board.article.service.response.ArticleBulkCreateResponse;
 import jamm.board.article.service.response.ArticlePageResponse;
 import jamm.board.article.service.response.ArticleResponse;
+import jamm.board.article.service.response.ArticleSummaryPageResponse;
+import jamm.board.article.service.response.ArticleSummaryResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 @RestController
 @RequiredArgsConstructor
 public class ArticleController {
     private final ArticleService articleService;
+    private final ArticleBulkService articleBulkService;
+    private final ArticlePageStreamWriter articlePageStreamWriter;
 
     @GetMapping("/v1/articles/{articleId}")
     public ArticleResponse read(@PathVariable Long articleId) {
@@ -29,6 +42,19 @@ public class ArticleController {
         return articleService.readAll(boardId, page, pageSize);
     }
 
+    /**
+     * /v1/articles와 같은 응답을 DB에서 읽는 대로 바로 내려준다. - 큰 pageSize용
+     */
+    @GetMapping(value = "/v1/articles/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamingResponseBody readAllStream(
+            @RequestParam("boardId") Long boardId,
+            @RequestParam("page") Long page,
+            @RequestParam("pageSize") Long pageSize)
+    {
+        Long articleCount = articleService.count(boardId);
+        return out -> articlePageStreamWriter.write(boardId, page, pageSize, articleCount, out);
+    }
+
     @GetMapping("/v1/articles/infinite-scroll")
     public List<ArticleResponse> readAllInfiniteScroll(
             @RequestParam("boardId") Long boardId,
@@ -38,11 +64,46 @@ public class ArticleController {
         return articleService.readAllInfiniteScroll(boardId, pageSize, lastArticleId);
     }
 
+    @GetMapping("/v1/articles/summaries")
+    public ArticleSummaryPageResponse readAllSummaries(
+            @RequestParam("boardId") Long boardId,
+            @RequestParam("page") Long page,
+            @RequestParam("pageSize") Long pageSize)
+    {
+        return articleService.readAllSummaries(boardId, page, pageSize);
+    }
+
+    @GetMapping("/v1/articles/summaries/infinite-scroll")
+    public List<ArticleSummaryResponse> readAllSummariesInfiniteScroll(
+            @RequestParam("boardId") Long boardId,
+            @RequestParam("pageSize") Long pageSize,
+            @RequestParam(value = "lastArticleId", required = false) Long lastArticleId
+    ) {
+        return articleService.readAllSummariesInfiniteScroll(boardId, pageSize, lastArticleId);
+    }
+
+    @GetMapping("/v1/articles/boards/{boardId}/count")
+    public Long count(@PathVariable Long boardId) {
+        return articleService.count(boardId);
+    }
+
     @PostMapping("/v1/articles")
     public ArticleResponse create(@RequestBody ArticleCreateRequest request) {
         return articleService.create(request);
     }
 
+    /**
+     * 요청 본문은 ArticleCreateRequest의 JSON 배열 - 전체를 메모리에 올리지 않고 읽으면서 저장한다.
+     * 본문이 중간에 잘못되었으면 400과 함께 그 전까지 저장된 결과를 응답한다.
+     */
+    @PostMapping("/v1/articles/bulk")
+    public ResponseEntity<ArticleBulkCreateResponse> createBulk(InputStream body) {
+        ArticleBulkCreateResponse response = articleBulkService.create(body);
+        return response.getCompleted() ?
+                ResponseEntity.ok(response) :
+                ResponseEntity.badRequest().body(response);
+    }
+
     @PostMapping("/v1/articles/{articleId}")
     public ArticleResponse update(@PathVariable Long articleId, @RequestBody ArticleUpdateRequest request) {
         return articleService.update(articleId, request);
@@ -53,4 +114,12 @@ public class ArticleController {
     public void delete(@PathVariable Long articleId) {
         articleService.delete(articleId);
     }
+
+    /**
+     * 없는 게시글은 404로 응답한다. (article-read가 서비스 장애와 구분한다.)
+     */
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<String> handleNoSuchElement(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
 }
@@ -0,0 +1,35 @@
+package jamm.board.article.repository;
+
+import jamm.board.article.entity.Article;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JPA persist를 거치지 않는 JDBC batch insert - 대량 이관용
+ * (MySQL은 rewriteBatchedStatements=true 일 때 multi-row insert로 보낸다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleBulkRepository {
+    private static final String INSERT_SQL =
+            "insert into article (article_id, title, content, board_id, writer_id, created_at, modified_at) " +
+            "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Article> articles) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, articles, articles.size(), (ps, article) -> {
+            ps.setLong(1, article.getArticleId());
+            ps.setString(2, article.getTitle());
+            ps.setString(3, article.getContent());
+            ps.setLong(4, article.getBoardId());
+            ps.setLong(5, article.getWriterId());
+            ps.setTimestamp(6, Timestamp.valueOf(article.getCreatedAt()));
+            ps.setTimestamp(7, Timestamp.valueOf(article.getModifiedAt()));
+        });
+    }
+}
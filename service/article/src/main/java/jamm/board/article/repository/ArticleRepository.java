@@ -28,6 +28,48 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
             @Param("limit") Long limit
     );
 
+    /**
+     * article_id <= :anchorArticleId 부터 offset만큼 건너뛴 페이지 조회 - 깊은 페이지를 anchor로 seek 한 뒤 짧게만 건너뛴다.
+     */
+    @Query(
+            value = "select article.article_id, article.title, article.content, article.board_id, article.writer_id, " +
+                    "article.created_at, article.modified_at " +
+                    "from (" +
+                    "   select article_id from article " +
+                    "   where board_id = :boardId and article_id <= :anchorArticleId " +
+                    "   order by article_id desc " +
+                    "   limit :limit offset :offset " +
+                    ") t left join article on t.article_id = article.article_id ",
+            nativeQuery = true
+    )
+    List<Article> findAllFromAnchor(
+            @Param("boardId") Long boardId,
+            @Param("anchorArticleId") Long anchorArticleId,
+            @Param("offset") Long offset,
+            @Param("limit") Long limit
+    );
+
+    /**
+     * article_id <= :fromArticleId 부터 limit개의 article_id를 훑으며 interval번째마다 article_id 조회 (covering index scan)
+     */
+    @Query(
+            value = "select article_id from (" +
+                    "   select article_id, row_number() over (order by article_id desc) as rn from (" +
+                    "       select article_id from article " +
+                    "       where board_id = :boardId and article_id <= :fromArticleId " +
+                    "       order by article_id desc limit :limit" +
+                    "   ) t" +
+                    ") r where (r.rn - 1) % :interval = 0 " +
+                    "order by article_id desc",
+            nativeQuery = true
+    )
+    List<Long> findAnchorArticleIds(
+            @Param("boardId") Long boardId,
+            @Param("fromArticleId") Long fromArticleId,
+            @Param("limit") Long limit,
+            @Param("interval") Long interval
+    );
+
     @Query(
             value = "select count(*) from (" +
                     "select article_id from article where board_id =:boardId limit :limit" +
@@ -60,4 +102,76 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
             @Param("limit") Long limit,
             @Param("lastArticleId") Long lastArticleId);
 
+    @Query(
+            value = "select article.article_id as articleId, article.title as title, article.board_id as boardId, " +
+                    "article.writer_id as writerId, article.created_at as createdAt, article.modified_at as modifiedAt " +
+                    "from (" +
+                    "   select article_id from article " +
+                    "   where board_id = :boardId " +
+                    "   order by article_id desc " +
+                    "   limit :limit offset :offset " +
+                    ") t left join article on t.article_id = article.article_id ",
+            nativeQuery = true
+    )
+    List<ArticleSummary> findAllSummaries(
+            @Param("boardId") Long boardId,
+            @Param("offset") Long offset,
+            @Param("limit") Long limit
+    );
+
+    @Query(
+            value = "select article.article_id as articleId, article.title as title, article.board_id as boardId, " +
+                    "article.writer_id as writerId, article.created_at as createdAt, article.modified_at as modifiedAt " +
+                    "from (" +
+                    "   select article_id from article " +
+                    "   where board_id = :boardId and article_id <= :anchorArticleId " +
+                    "   order by article_id desc " +
+                    "   limit :limit offset :offset " +
+                    ") t left join article on t.article_id = article.article_id ",
+            nativeQuery = true
+    )
+    List<ArticleSummary> findAllSummariesFromAnchor(
+            @Param("boardId") Long boardId,
+            @Param("anchorArticleId") Long anchorArticleId,
+            @Param("offset") Long offset,
+            @Param("limit") Long limit
+    );
+
+    @Query(
+            value = "select article.article_id as articleId, article.title as title, article.board_id as boardId, " +
+                    "article.writer_id as writerId, article.created_at as createdAt, article.modified_at as modifiedAt " +
+                    "from article " +
+                    "where board_id = :boardId " +
+                    "order by article_id desc limit :limit",
+            nativeQuery = true
+    )
+    List<ArticleSummary> findAllSummariesInfiniteScroll(@Param("boardId") Long boardId, @Param("limit") Long limit);
+
+    @Query(
+            value = "select article.article_id as articleId, article.title as title, article.board_id as boardId, " +
+                    "article.writer_id as writerId, article.created_at as createdAt, article.modified_at as modifiedAt " +
+                    "from article " +
+                    "where board_id = :boardId and article.article_id < :lastArticleId " +
+                    "order by article_id desc limit :limit",
+            nativeQuery = true
+    )
+    List<ArticleSummary> findAllSummariesInfiniteScroll(
+            @Param("boardId") Long boardId,
+            @Param("limit") Long limit,
+            @Param("lastArticleId") Long lastArticleId);
+
+    /**
+     * 게시글이 있는 게시판 - board_id 인덱스를 건너뛰며 읽는다. (loose index scan)
+     */
+    @Query(
+            value = "select distinct board_id from article where board_id > :lastBoardId order by board_id asc limit :limit",
+            nativeQuery = true
+    )
+    List<Long> findBoardIds(@Param("lastBoardId") Long lastBoardId, @Param("limit") Long limit);
+
+    /**
+     * 잠금 없는 일관된 읽기(consistent read)로 센다.
+     */
+    @Query(value = "select count(*) from article where board_id = :boardId", nativeQuery = true)
+    Long countByBoardId(@Param("boardId") Long boardId);
 }
@@ -0,0 +1,50 @@
+package jamm.board.article.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/**
+ * 조회 결과를 List로 모으지 않고 row 단위로 넘겨주는 JDBC cursor 조회
+ */
+@Repository
+public class ArticleStreamRepository {
+    private static final String COLUMNS = "article.article_id, article.title, article.content, article.board_id, " +
+            "article.writer_id, article.created_at, article.modified_at ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArticleStreamRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL Connector/J는 fetchSize가 Integer.MIN_VALUE일 때 결과를 한 번에 받지 않고 row 단위로 스트리밍한다.
+        this.jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    public void streamAll(Long boardId, Long offset, Long limit, RowCallbackHandler handler) {
+        jdbcTemplate.query(
+                "select " + COLUMNS +
+                        "from (" +
+                        "   select article_id from article " +
+                        "   where board_id = ? " +
+                        "   order by article_id desc " +
+                        "   limit ? offset ? " +
+                        ") t left join article on t.article_id = article.article_id",
+                handler, boardId, limit, offset
+        );
+    }
+
+    public void streamAllFromAnchor(Long boardId, Long anchorArticleId, Long offset, Long limit, RowCallbackHandler handler) {
+        jdbcTemplate.query(
+                "select " + COLUMNS +
+                        "from (" +
+                        "   select article_id from article " +
+                        "   where board_id = ? and article_id <= ? " +
+                        "   order by article_id desc " +
+                        "   limit ? offset ? " +
+                        ") t left join article on t.article_id = article.article_id",
+                handler, boardId, anchorArticleId, limit, offset
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package jamm.board.article.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 projection - content를 읽지 않는다.
+ */
+public interface ArticleSummary {
+    Long getArticleId();
+    String getTitle();
+    Long getBoardId();
+    Long getWriterId();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getModifiedAt();
+}
@@ -0,0 +1,69 @@
+package jamm.board.article.repository;
+
+import jakarta.persistence.LockModeType;
+import jamm.board.article.entity.BoardArticleCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BoardArticleCountRepository extends JpaRepository<BoardArticleCount, Long> {
+
+    /**
+     * 게시글 수 증가 - row가 없으면 만든다. 첫 게시글이 동시에 생성되어도 upsert 한 문장이라 중복 insert가 없다.
+     */
+    default int increase(Long boardId) {
+        return increase(boardId, 1L);
+    }
+
+    @Query(
+            value = "insert into board_article_count (board_id, article_count) values (:boardId, :count) " +
+                    "on duplicate key update article_count = article_count + :count",
+            nativeQuery = true
+    )
+    @Modifying
+    int increase(@Param("boardId") Long boardId, @Param("count") Long count);
+
+    @Query(
+            value = "update board_article_count set article_count = article_count - 1 where board_id = :boardId",
+            nativeQuery = true
+    )
+    @Modifying
+    int decrease(@Param("boardId") Long boardId);
+
+    /**
+     * 보정 대상 게시판 - board_id 순으로 lastBoardId 다음부터 limit개
+     */
+    @Query(
+            value = "select board_id from board_article_count where board_id > :lastBoardId order by board_id asc limit :limit",
+            nativeQuery = true
+    )
+    List<Long> findBoardIds(@Param("lastBoardId") Long lastBoardId, @Param("limit") Long limit);
+
+    @Query(
+            value = "insert ignore into board_article_count (board_id, article_count) values (:boardId, 0)",
+            nativeQuery = true
+    )
+    @Modifying
+    int createIfAbsent(@Param("boardId") Long boardId);
+
+    /**
+     * select ... for update - 보정하는 동안 이 게시판의 게시글 수 증감은 대기한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from BoardArticleCount c where c.boardId = :boardId")
+    Optional<BoardArticleCount> findLockedByBoardId(@Param("boardId") Long boardId);
+
+    @Query(
+            value = "update board_article_count set article_count = :articleCount where board_id = :boardId",
+            nativeQuery = true
+    )
+    @Modifying
+    int updateArticleCount(@Param("boardId") Long boardId, @Param("articleCount") Long articleCount);
+}
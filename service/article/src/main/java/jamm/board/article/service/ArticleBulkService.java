@@ -0,0 +1,138 @@
+package jamm.board.article.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jamm.board.article.entity.Article;
+import jamm.board.article.repository.ArticleBulkRepository;
+import jamm.board.article.repository.BoardArticleCountRepository;
+import jamm.board.article.service.request.ArticleCreateRequest;
+import jamm.board.article.service.response.ArticleBulkCreateResponse;
+import jamm.board.article.service.response.ArticleBulkCreateResponse.ItemResult;
+import jamm.board.article.service.response.ArticleResponse;
+import kuke.board.common.snowflake.Snowflake;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 대량 생성 - 요청 JSON 배열을 스트리밍으로 읽으며 chunkSize개씩 JDBC batch insert 한다.
+ * - chunk마다 ID를 한 번에 발급하고, 트랜잭션도 chunk 단위로 나눈다. 실패한 chunk만 실패로 응답한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleBulkService {
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Snowflake snowflake;
+    private final ArticleBulkRepository articleBulkRepository;
+    private final BoardArticleCountRepository boardArticleCountRepository;
+    private final ArticlePageAnchorIndex articlePageAnchorIndex;
+    private final ArticleFirstPageCache articleFirstPageCache;
+
+    @Value("${article.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 요청 본문이 중간에 잘못되었으면(객체가 아닌 원소, 잘린 JSON 등) 거기서 멈추고,
+     * 그 전까지 커밋된 chunk의 결과와 함께 errorMessage를 응답한다. 아직 저장하지 않은 chunk는 실패로 응답한다.
+     */
+    public ArticleBulkCreateResponse create(InputStream body) {
+        long start = System.nanoTime();
+        List<ItemResult> results = new ArrayList<>();
+        List<ArticleCreateRequest> chunk = new ArrayList<>(chunkSize);
+        String errorMessage = null;
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("request body must be a JSON array");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IllegalArgumentException("element " + (results.size() + chunk.size()) +
+                            " must be a JSON object: " + (token == null ? "end of input" : token));
+                }
+                chunk.add(objectMapper.readValue(parser, ArticleCreateRequest.class));
+                if (chunk.size() == chunkSize) {
+                    insert(chunk, results);
+                    chunk.clear();
+                }
+            }
+            insert(chunk, results);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("[ArticleBulkService.create] invalid request body. committed={}", results.size(), e);
+            errorMessage = e.getMessage();
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(ItemResult.failure(results.size(), "not inserted: request body is invalid"));
+            }
+        }
+
+        ArticleBulkCreateResponse response = ArticleBulkCreateResponse.of(results, System.nanoTime() - start, errorMessage);
+        log.info("[ArticleBulkService.create] success={}, failure={}, rowsPerSecond={}",
+                response.getSuccessCount(), response.getFailureCount(), response.getRowsPerSecond());
+        return response;
+    }
+
+    private void insert(List<ArticleCreateRequest> chunk, List<ItemResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        int firstIndex = results.size();
+        long[] articleIds = snowflake.nextIds(chunk.size());
+
+        List<Article> articles = new ArrayList<>(chunk.size());
+        List<ItemResult> chunkResults = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            ArticleCreateRequest request = chunk.get(i);
+            if (request.getBoardId() == null || request.getWriteId() == null || request.getTitle() == null) {
+                chunkResults.add(ItemResult.failure(firstIndex + i, "title, writeId and boardId are required"));
+                continue;
+            }
+            articles.add(Article.create(articleIds[i], request.getTitle(), request.getContent(), request.getBoardId(), request.getWriteId()));
+            chunkResults.add(ItemResult.success(firstIndex + i, articleIds[i]));
+        }
+
+        try {
+            if (!articles.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    articleBulkRepository.insertAll(articles);
+                    increaseBoardArticleCounts(articles);
+                });
+                onCreated(articles);
+            }
+            results.addAll(chunkResults);
+        } catch (RuntimeException e) {
+            log.warn("[ArticleBulkService.insert] chunk failed. firstIndex={}, size={}", firstIndex, chunk.size(), e);
+            for (ItemResult result : chunkResults) {
+                results.add(result.getSuccess() ? ItemResult.failure(result.getIndex(), e.getMessage()) : result);
+            }
+        }
+    }
+
+    private void increaseBoardArticleCounts(List<Article> articles) {
+        Map<Long, Long> countByBoardId = articles.stream()
+                .collect(Collectors.groupingBy(Article::getBoardId, Collectors.counting()));
+        countByBoardId.forEach(boardArticleCountRepository::increase);
+    }
+
+    private void onCreated(List<Article> articles) {
+        articles.stream()
+                .map(Article::getBoardId)
+                .distinct()
+                .forEach(articlePageAnchorIndex::invalidate);
+        for (Article article : articles) {
+            articleFirstPageCache.onCreated(ArticleResponse.from(article));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package jamm.board.article.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jamm.board.article.repository.ArticleRepository;
+import jamm.board.article.service.response.ArticleResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 게시글 상세 read-through 캐시
+ * - 같은 articleId에 대한 동시 miss는 DB 조회 한 번을 함께 기다린다. (single-flight)
+ * - 없는(삭제된) articleId도 짧게 캐시해서, 없는 게시글 요청이 매번 DB로 가지 않게 한다.
+ * - 이 인스턴스의 수정/삭제는 커밋 후 바로 지운다. 다른 인스턴스의 수정/삭제는 지우지 못하므로,
+ *   다른 인스턴스에서 바뀐 게시글은 최대 ttl(기본 30초) 동안 바뀌기 전 값으로 응답한다.
+ */
+@Component
+public class ArticleDetailCache {
+    private static final long MAX_SIZE = 10_000L;
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(10);
+
+    private final LoadingCache<Long, Optional<ArticleResponse>> cache;
+
+    public ArticleDetailCache(
+            ArticleRepository articleRepository,
+            @Value("${article.detail-cache.ttl-seconds:30}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfter(new ArticleExpiry(Duration.ofSeconds(ttlSeconds)))
+                .recordStats()
+                .build(articleId -> articleRepository.findById(articleId).map(ArticleResponse::from));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "article.detail");
+    }
+
+    public Optional<ArticleResponse> get(Long articleId) {
+        return cache.get(articleId);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 지운다. 커밋 전에 지우면 다른 요청이 커밋 전 값을 다시 캐시할 수 있다.
+     */
+    public void evict(Long articleId) {
+        AfterCommit.run(() -> cache.invalidate(articleId));
+    }
+
+    @RequiredArgsConstructor
+    private static class ArticleExpiry implements Expiry<Long, Optional<ArticleResponse>> {
+        private final Duration ttl;
+
+        @Override
+        public long expireAfterCreate(Long articleId, Optional<ArticleResponse> article, long currentTime) {
+            return (article.isPresent() ? ttl : NEGATIVE_TTL).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long articleId, Optional<ArticleResponse> article, long currentTime, long currentDuration) {
+            return expireAfterCreate(articleId, article, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long articleId, Optional<ArticleResponse> article, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
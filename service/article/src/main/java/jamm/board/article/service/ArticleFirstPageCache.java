@@ -0,0 +1,223 @@
+package jamm.board.article.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jamm.board.article.repository.ArticleRepository;
+import jamm.board.article.service.response.ArticleResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.UnaryOperator;
+
+/**
+ * 게시판별 최신 게시글 MAX_ARTICLES_PER_BOARD개 캐시 - lastArticleId 없는 무한 스크롤 첫 페이지를 DB 없이 응답한다.
+ * - 게시판은 MAX_BOARDS개까지만 유지한다.
+ * - 이 인스턴스의 생성/수정/삭제는 커밋 후 캐시에 그대로 반영한다. (write-through)
+ * - 다른 인스턴스의 변경은 반영되지 않으므로, 처음 읽은 뒤 EXPIRE_AFTER_LOAD가 지나면 DB에서 다시 읽는다.
+ *   write-through는 만료 시간을 늘리지 않는다.
+ */
+@Component
+public class ArticleFirstPageCache {
+    static final int MAX_ARTICLES_PER_BOARD = 100;
+    private static final long MAX_BOARDS = 1000L;
+    private static final Duration EXPIRE_AFTER_LOAD = Duration.ofSeconds(30);
+    private static final int VERSION_STRIPES = 1024;
+
+    private final ArticleRepository articleRepository;
+    private final Cache<Long, BoardPage> boardPages = Caffeine.newBuilder()
+            .maximumSize(MAX_BOARDS)
+            .expireAfter(new BoardPageExpiry())
+            .build();
+    // DB에서 읽는 동안 커밋된 쓰기가 있으면, 읽은 결과는 이미 오래된 것이므로 캐시에 넣지 않는다.
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer readTimer;
+
+    public ArticleFirstPageCache(ArticleRepository articleRepository, MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.hitCounter = meterRegistry.counter("article.first-page-cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("article.first-page-cache.requests", "result", "miss");
+        this.readTimer = meterRegistry.timer("article.first-page-cache.read");
+        Gauge.builder("article.first-page-cache.hit-ratio", this, ArticleFirstPageCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("article.first-page-cache.boards", boardPages, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    public List<ArticleResponse> read(Long boardId, Long pageSize) {
+        if (pageSize > MAX_ARTICLES_PER_BOARD) {
+            return load(boardId, pageSize);
+        }
+        return readTimer.record(() -> {
+            BoardPage boardPage = boardPages.getIfPresent(boardId);
+            if (boardPage != null && boardPage.canServe(pageSize)) {
+                hitCounter.increment();
+                return boardPage.head(pageSize);
+            }
+            missCounter.increment();
+
+            long version = versions.get(stripe(boardId));
+            List<ArticleResponse> articles = load(boardId, (long) MAX_ARTICLES_PER_BOARD);
+            // write-through(computeIfPresent)와 같은 bin lock 안에서 버전을 확인한다.
+            boardPages.asMap().compute(boardId, (key, current) ->
+                    versions.get(stripe(boardId)) == version ?
+                            new BoardPage(articles, articles.size() < MAX_ARTICLES_PER_BOARD) :
+                            current
+            );
+            return articles.subList(0, (int) Math.min(pageSize, articles.size()));
+        });
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 반영한다. 커밋 전에 반영하면 롤백된 게시글이 캐시에 남고,
+     * 커밋 전에 DB를 읽은 miss가 새 게시글 없는 페이지를 캐시할 수 있다.
+     */
+    public void onCreated(ArticleResponse article) {
+        AfterCommit.run(() -> update(article.getBoardId(), boardPage -> boardPage.add(article)));
+    }
+
+    public void onUpdated(ArticleResponse article) {
+        AfterCommit.run(() -> update(article.getBoardId(), boardPage -> boardPage.replace(article)));
+    }
+
+    public void onDeleted(Long boardId, Long articleId) {
+        AfterCommit.run(() -> update(boardId, boardPage -> boardPage.remove(articleId)));
+    }
+
+    private void update(Long boardId, UnaryOperator<BoardPage> updater) {
+        versions.incrementAndGet(stripe(boardId));
+        boardPages.asMap().computeIfPresent(boardId, (key, boardPage) -> updater.apply(boardPage));
+    }
+
+    private List<ArticleResponse> load(Long boardId, Long limit) {
+        return articleRepository.findAllInfiniteScroll(boardId, limit).stream()
+                .map(ArticleResponse::from)
+                .toList();
+    }
+
+    private double hitRatio() {
+        double total = hitCounter.count() + missCounter.count();
+        return total == 0 ? 0 : hitCounter.count() / total;
+    }
+
+    private static int stripe(Long boardId) {
+        return Long.hashCode(boardId) & (VERSION_STRIPES - 1);
+    }
+
+    private static class BoardPageExpiry implements Expiry<Long, BoardPage> {
+        @Override
+        public long expireAfterCreate(Long boardId, BoardPage boardPage, long currentTime) {
+            return EXPIRE_AFTER_LOAD.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long boardId, BoardPage boardPage, long currentTime, long currentDuration) {
+            return boardPage.loaded ? EXPIRE_AFTER_LOAD.toNanos() : currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(Long boardId, BoardPage boardPage, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * 바뀌지 않는다. write-through는 새 BoardPage를 만든다. (읽는 쪽은 lock 없이 읽는다.)
+     */
+    private static class BoardPage {
+        // article_id 내림차순
+        private final List<ArticleResponse> articles;
+        // 게시판의 게시글이 MAX_ARTICLES_PER_BOARD개보다 적어서 전부 들고 있음
+        private final boolean complete;
+        // DB에서 읽은 것인지 (write-through로 바뀐 것이 아닌지) - 만료 시간 계산용
+        private final boolean loaded;
+
+        private BoardPage(List<ArticleResponse> articles, boolean complete) {
+            this(articles, complete, true);
+        }
+
+        private BoardPage(List<ArticleResponse> articles, boolean complete, boolean loaded) {
+            this.articles = List.copyOf(articles);
+            this.complete = complete;
+            this.loaded = loaded;
+        }
+
+        boolean canServe(Long pageSize) {
+            return complete || articles.size() >= pageSize;
+        }
+
+        List<ArticleResponse> head(Long pageSize) {
+            return articles.subList(0, (int) Math.min(pageSize, articles.size()));
+        }
+
+        BoardPage add(ArticleResponse article) {
+            int index = indexOf(article.getArticleId());
+            if (index >= 0) {
+                return this;
+            }
+            int insertionPoint = -(index + 1);
+            // 캐시된 범위보다 오래된 게시글은 캐시 밖의 게시글과 순서를 알 수 없다.
+            if (insertionPoint == articles.size() && !complete) {
+                return this;
+            }
+            List<ArticleResponse> added = new ArrayList<>(articles);
+            added.add(insertionPoint, article);
+            boolean addedComplete = complete;
+            if (added.size() > MAX_ARTICLES_PER_BOARD) {
+                added.removeLast();
+                addedComplete = false;
+            }
+            return new BoardPage(added, addedComplete, false);
+        }
+
+        BoardPage replace(ArticleResponse article) {
+            int index = indexOf(article.getArticleId());
+            if (index < 0) {
+                return this;
+            }
+            List<ArticleResponse> replaced = new ArrayList<>(articles);
+            replaced.set(index, article);
+            return new BoardPage(replaced, complete, false);
+        }
+
+        BoardPage remove(Long articleId) {
+            int index = indexOf(articleId);
+            if (index < 0) {
+                return this;
+            }
+            List<ArticleResponse> removed = new ArrayList<>(articles);
+            removed.remove(index);
+            return new BoardPage(removed, complete, false);
+        }
+
+        /**
+         * article_id 내림차순 이진 탐색 - 없으면 -(insertionPoint + 1)
+         */
+        private int indexOf(Long articleId) {
+            int low = 0;
+            int high = articles.size() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long midArticleId = articles.get(mid).getArticleId();
+                if (midArticleId > articleId) {
+                    low = mid + 1;
+                } else if (midArticleId < articleId) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package jamm.board.article.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jamm.board.article.repository.ArticleRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시판별 sparse index - article_id 내림차순에서 ANCHOR_INTERVAL번째마다 article_id와 그 위치를 기억한다.
+ * 페이지 번호의 offset을 (anchor article_id, anchor 이후 남은 offset)으로 바꿔서,
+ * 깊은 페이지도 article_id <= anchor 로 seek 한 뒤 ANCHOR_INTERVAL 미만만 건너뛰게 한다.
+ * - anchor는 요청된 깊이까지만 지연 생성한다.
+ * - 이 인스턴스에서 일어난 생성/삭제는 커밋 후 anchor 위치에 반영하고,
+ *   다른 인스턴스의 변경은 TTL이 지나 다시 만들 때 반영된다.
+ * - 커밋 전후로 anchor를 만든 조회가 이미 그 생성/삭제를 보았을 수 있으면, 옮기지 않고 게시판의 anchor를 버린다.
+ *   (두 번 반영되어 깊은 페이지가 TTL 동안 어긋나지 않게 한다.)
+ * - 게시판은 MAX_BOARDS개까지만 유지한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticlePageAnchorIndex {
+    static final long ANCHOR_INTERVAL = 1000L;
+    private static final long MAX_BOARDS = 1000L;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final ArticleRepository articleRepository;
+    // shift가 없어서 write 시각이 곧 생성 시각이다.
+    private final Cache<Long, BoardAnchors> boardAnchors = Caffeine.newBuilder()
+            .maximumSize(MAX_BOARDS)
+            .expireAfterWrite(TTL)
+            .build();
+    // 생성/삭제마다 커밋 전에 증가한다. anchor를 만든 조회가 끝난 뒤의 값과 비교해 그 조회가 커밋을 보았을 수 있는지 판단한다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public PageAnchor resolve(Long boardId, Long offset) {
+        if (offset < ANCHOR_INTERVAL) {
+            return PageAnchor.of(null, offset);
+        }
+        BoardAnchors anchors = boardAnchors.get(boardId, key -> new BoardAnchors());
+        synchronized (anchors) {
+            if (anchors.needsExtension(offset)) {
+                anchors.extend(articleRepository, boardId, offset);
+                anchors.extendedGeneration = generation.get();
+            }
+            return anchors.find(offset);
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 (커밋 전에) 부른다. 커밋 후에 옮겨서 롤백된 생성/삭제로 anchor 위치가 어긋나지 않게 한다.
+     */
+    public void onCreated(Long boardId, Long articleId) {
+        long writeGeneration = generation.incrementAndGet();
+        AfterCommit.run(() -> shift(boardId, articleId, 1, writeGeneration));
+    }
+
+    public void onDeleted(Long boardId, Long articleId) {
+        long writeGeneration = generation.incrementAndGet();
+        AfterCommit.run(() -> shift(boardId, articleId, -1, writeGeneration));
+    }
+
+    /**
+     * writeGeneration 이후에 끝난 조회로 만든 anchor는 이 커밋을 이미 보았을 수 있으므로 버린다.
+     */
+    private void shift(Long boardId, Long articleId, long delta, long writeGeneration) {
+        BoardAnchors anchors = boardAnchors.getIfPresent(boardId);
+        if (anchors == null) {
+            return;
+        }
+        synchronized (anchors) {
+            if (anchors.extendedGeneration < writeGeneration) {
+                anchors.shift(articleId, delta);
+                return;
+            }
+        }
+        boardAnchors.asMap().remove(boardId, anchors);
+    }
+
+    /**
+     * 대량 생성처럼 anchor를 하나씩 옮기는 것보다 다시 만드는 게 싼 경우
+     */
+    public void invalidate(Long boardId) {
+        boardAnchors.invalidate(boardId);
+    }
+
+    @Getter
+    @ToString
+    @RequiredArgsConstructor(staticName = "of")
+    public static class PageAnchor {
+        // null이면 anchor 없이 처음부터 offset만큼 건너뛴다.
+        private final Long articleId;
+        private final Long offset;
+    }
+
+    private static class BoardAnchors {
+        // anchor article_id (내림차순)
+        private long[] articleIds = new long[16];
+        // anchor보다 article_id가 큰 article 수 - topShift와 더해야 실제 위치
+        private long[] positions = new long[16];
+        private int size;
+        // 모든 anchor보다 위에 생성(+)/삭제(-)된 article 수
+        private long topShift;
+        // 마지막 anchor 아래로 더 이상 anchor를 만들 article이 없음
+        private boolean exhausted;
+        // 마지막 extend의 조회가 끝난 뒤의 generation
+        private long extendedGeneration;
+
+        boolean needsExtension(long offset) {
+            return !exhausted && (size == 0 || positionOf(size - 1) + ANCHOR_INTERVAL <= offset);
+        }
+
+        void extend(ArticleRepository articleRepository, Long boardId, long offset) {
+            long fromArticleId = size == 0 ? Long.MAX_VALUE : articleIds[size - 1];
+            long fromPosition = size == 0 ? 0 : positionOf(size - 1);
+            List<Long> anchorArticleIds = articleRepository.findAnchorArticleIds(
+                    boardId, fromArticleId, offset - fromPosition + 1, ANCHOR_INTERVAL
+            );
+
+            // 마지막 anchor부터 훑었다면 첫 결과는 기존 anchor와 같은 위치이므로 건너뛴다.
+            for (int i = size == 0 ? 0 : 1; i < anchorArticleIds.size(); i++) {
+                add(anchorArticleIds.get(i), fromPosition + i * ANCHOR_INTERVAL - topShift);
+            }
+            exhausted = size == 0 || positionOf(size - 1) + ANCHOR_INTERVAL <= offset;
+        }
+
+        PageAnchor find(long offset) {
+            // positionOf(k) <= offset 을 만족하는 가장 깊은 anchor
+            int low = 0;
+            int high = size - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (positionOf(mid) <= offset) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            if (found < 0) {
+                return PageAnchor.of(null, offset);
+            }
+            return PageAnchor.of(articleIds[found], offset - positionOf(found));
+        }
+
+        /**
+         * articleId보다 작은 anchor는 delta만큼 뒤로 밀린다.
+         */
+        void shift(long articleId, long delta) {
+            exhausted = false;
+            if (size == 0) {
+                return;
+            }
+            if (articleId > articleIds[0]) {
+                topShift += delta;
+                return;
+            }
+            for (int i = size - 1; i >= 0 && articleIds[i] < articleId; i--) {
+                positions[i] += delta;
+            }
+        }
+
+        private long positionOf(int index) {
+            return positions[index] + topShift;
+        }
+
+        private void add(long articleId, long position) {
+            if (size == articleIds.length) {
+                articleIds = Arrays.copyOf(articleIds, size * 2);
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            articleIds[size] = articleId;
+            positions[size] = position;
+            size++;
+        }
+    }
+}
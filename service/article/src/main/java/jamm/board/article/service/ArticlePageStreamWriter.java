@@ -0,0 +1,72 @@
+package jamm.board.article.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jamm.board.article.repository.ArticleStreamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * ArticlePageResponse와 같은 JSON을 DB cursor에서 읽는 대로 바로 써 내려간다.
+ * pageSize가 커져도 응답 객체를 모아두지 않으므로 메모리 사용량이 일정하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticlePageStreamWriter {
+    private final ObjectMapper objectMapper;
+    private final ArticleStreamRepository articleStreamRepository;
+    private final ArticlePageAnchorIndex articlePageAnchorIndex;
+
+    public void write(Long boardId, Long page, Long pageSize, Long articleCount, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("articles");
+
+            RowCallbackHandler handler = rs -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField("articleId", rs.getLong("article_id"));
+                    generator.writeStringField("title", rs.getString("title"));
+                    generator.writeStringField("content", rs.getString("content"));
+                    generator.writeNumberField("boardId", rs.getLong("board_id"));
+                    writeNullableLongField(generator, "writerId", rs, "writer_id");
+                    generator.writePOJOField("createdAt", rs.getObject("created_at", LocalDateTime.class));
+                    generator.writePOJOField("modifiedAt", rs.getObject("modified_at", LocalDateTime.class));
+                    generator.writeEndObject();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+
+            ArticlePageAnchorIndex.PageAnchor anchor = articlePageAnchorIndex.resolve(boardId, (page - 1) * pageSize);
+            if (anchor.getArticleId() == null) {
+                articleStreamRepository.streamAll(boardId, anchor.getOffset(), pageSize, handler);
+            } else {
+                articleStreamRepository.streamAllFromAnchor(boardId, anchor.getArticleId(), anchor.getOffset(), pageSize, handler);
+            }
+
+            generator.writeEndArray();
+            generator.writeNumberField("articleCount", articleCount);
+            generator.writeEndObject();
+        }
+    }
+
+    // getLong은 NULL을 0으로 읽으므로 wasNull로 구분해 JSON null을 쓴다.
+    private static void writeNullableLongField(JsonGenerator generator, String fieldName, ResultSet rs, String columnLabel)
+            throws IOException, SQLException {
+        long value = rs.getLong(columnLabel);
+        if (rs.wasNull()) {
+            generator.writeNullField(fieldName);
+        } else {
+            generator.writeNumberField(fieldName, value);
+        }
+    }
+}
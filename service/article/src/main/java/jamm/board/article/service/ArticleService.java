@@ -1,12 +1,17 @@
 package jamm.board.article.service;
 
 import jamm.board.article.entity.Article;
+import jamm.board.article.entity.BoardArticleCount;
 import jamm.board.article.repository.ArticleRepository;
+import jamm.board.article.repository.ArticleSummary;
+import jamm.board.article.repository.BoardArticleCountRepository;
 import jamm.board.article.service.request.ArticleCreateRequest;
 import jamm.board.article.service.request.ArticleUpdateRequest;
 import jamm.board.article.service.response.ArticlePageResponse;
 import jamm.board.article.service.response.ArticleResponse;
-import kuke.board.common.snowflake.Snowflake;
+import jamm.board.article.service.response.ArticleSummaryPageResponse;
+import jamm.board.article.service.response.ArticleSummaryResponse;
+import kuke.board.common.snowflake.IdSupplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,50 +21,97 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class ArticleService {
-    private final Snowflake snowflake = new Snowflake();
+    private final IdSupplier idSupplier;
     private final ArticleRepository articleRepository;
+    private final ArticlePageAnchorIndex articlePageAnchorIndex;
+    private final BoardArticleCountRepository boardArticleCountRepository;
+    private final ArticleFirstPageCache articleFirstPageCache;
+    private final ArticleDetailCache articleDetailCache;
 
     @Transactional
     public ArticleResponse create(ArticleCreateRequest request) {
         Article article = articleRepository.save(
-                Article.create(snowflake.nextId(), request.getTitle(), request.getContent(), request.getBoardId(), request.getWriteId())
+                Article.create(idSupplier.nextId(), request.getTitle(), request.getContent(), request.getBoardId(), request.getWriteId())
         );
+        boardArticleCountRepository.increase(request.getBoardId());
+        articlePageAnchorIndex.onCreated(article.getBoardId(), article.getArticleId());
 
-        return ArticleResponse.from(article);
+        ArticleResponse response = ArticleResponse.from(article);
+        articleFirstPageCache.onCreated(response);
+        return response;
     }
 
     @Transactional
     public ArticleResponse update(Long articleId, ArticleUpdateRequest request) {
         Article article = articleRepository.findById(articleId).orElseThrow();
         article.update(request.getTitle(), request.getContent());
-        return ArticleResponse.from(article);
+        ArticleResponse response = ArticleResponse.from(article);
+        articleFirstPageCache.onUpdated(response);
+        articleDetailCache.evict(articleId);
+        return response;
     }
 
     public ArticleResponse read(Long articleId) {
-        return ArticleResponse.from(articleRepository.findById(articleId).orElseThrow());
+        return articleDetailCache.get(articleId).orElseThrow();
     }
 
     @Transactional
     public void delete(Long articleId) {
-        articleRepository.deleteById(articleId);
+        articleRepository.findById(articleId).ifPresent(article -> {
+            articleRepository.delete(article);
+            boardArticleCountRepository.decrease(article.getBoardId());
+            articlePageAnchorIndex.onDeleted(article.getBoardId(), article.getArticleId());
+            articleFirstPageCache.onDeleted(article.getBoardId(), article.getArticleId());
+            articleDetailCache.evict(article.getArticleId());
+        });
     }
 
     public ArticlePageResponse readAll(Long boardId, Long page, Long pageSize) {
         return ArticlePageResponse.of(
-                articleRepository.findAll(boardId, (page-1)*pageSize, pageSize).stream()
+                findAll(boardId, page, pageSize).stream()
                         .map(ArticleResponse::from)
                         .toList(),
-                articleRepository.count(
-                        boardId,
-                        PageLimitCalculator.calculatePageLimit(page,pageSize,10L)
-                )
+                count(boardId)
         );
     }
 
+    public Long count(Long boardId) {
+        return boardArticleCountRepository.findById(boardId)
+                .map(BoardArticleCount::getArticleCount)
+                .orElse(0L);
+    }
+
+    private List<Article> findAll(Long boardId, Long page, Long pageSize) {
+        ArticlePageAnchorIndex.PageAnchor anchor = articlePageAnchorIndex.resolve(boardId, (page - 1) * pageSize);
+        return anchor.getArticleId() == null ?
+                articleRepository.findAll(boardId, anchor.getOffset(), pageSize) :
+                articleRepository.findAllFromAnchor(boardId, anchor.getArticleId(), anchor.getOffset(), pageSize);
+    }
+
     public List<ArticleResponse> readAllInfiniteScroll(Long boardId, Long pageSize, Long lastArticleId) {
-        List<Article> articles = lastArticleId == null ?
-                articleRepository.findAllInfiniteScroll(boardId, pageSize) :
-                articleRepository.findAllInfiniteScroll(boardId, pageSize, lastArticleId);
-        return articles.stream().map(ArticleResponse::from).toList();
+        if (lastArticleId == null) {
+            return articleFirstPageCache.read(boardId, pageSize);
+        }
+        return articleRepository.findAllInfiniteScroll(boardId, pageSize, lastArticleId).stream()
+                .map(ArticleResponse::from)
+                .toList();
+    }
+
+    public ArticleSummaryPageResponse readAllSummaries(Long boardId, Long page, Long pageSize) {
+        ArticlePageAnchorIndex.PageAnchor anchor = articlePageAnchorIndex.resolve(boardId, (page - 1) * pageSize);
+        List<ArticleSummary> articles = anchor.getArticleId() == null ?
+                articleRepository.findAllSummaries(boardId, anchor.getOffset(), pageSize) :
+                articleRepository.findAllSummariesFromAnchor(boardId, anchor.getArticleId(), anchor.getOffset(), pageSize);
+        return ArticleSummaryPageResponse.of(
+                articles.stream().map(ArticleSummaryResponse::from).toList(),
+                count(boardId)
+        );
+    }
+
+    public List<ArticleSummaryResponse> readAllSummariesInfiniteScroll(Long boardId, Long pageSize, Long lastArticleId) {
+        List<ArticleSummary> articles = lastArticleId == null ?
+                articleRepository.findAllSummariesInfiniteScroll(boardId, pageSize) :
+                articleRepository.findAllSummariesInfiniteScroll(boardId, pageSize, lastArticleId);
+        return articles.stream().map(ArticleSummaryResponse::from).toList();
     }
 }
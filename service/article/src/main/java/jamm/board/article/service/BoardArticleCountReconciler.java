@@ -0,0 +1,74 @@
+package jamm.board.article.service;
+
+import jamm.board.article.repository.ArticleRepository;
+import jamm.board.article.repository.BoardArticleCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * board_article_count는 생성/삭제 시 증감으로만 유지되므로,
+ * bulk insert처럼 ArticleService를 거치지 않은 변경으로 생긴 오차를 주기적으로 바로잡는다.
+ * - 게시판 하나씩 짧은 트랜잭션으로 보정한다. article 전체를 잠그는 insert ... select 를 쓰지 않는다.
+ * - 게시글이 모두 지워진 게시판은 0으로 맞춘다.
+ * - 처음 배포할 때는 db/board_article_count_backfill.sql로 미리 채운다. (이 보정은 하루 한 번만 돈다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardArticleCountReconciler {
+    private static final long BATCH_SIZE = 100L;
+
+    private final ArticleRepository articleRepository;
+    private final BoardArticleCountRepository boardArticleCountRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${article.board-article-count.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        // row가 있는 게시판 (게시글이 없어진 게시판 포함) + 게시글은 있는데 row가 없는 게시판
+        int updated = reconcileAll(boardArticleCountRepository::findBoardIds)
+                + reconcileAll(articleRepository::findBoardIds);
+        log.info("[BoardArticleCountReconciler.reconcile] updated={}", updated);
+    }
+
+    private int reconcileAll(BiFunction<Long, Long, List<Long>> boardIdFinder) {
+        int updated = 0;
+        Long lastBoardId = 0L;
+        while (true) {
+            List<Long> boardIds = boardIdFinder.apply(lastBoardId, BATCH_SIZE);
+            for (Long boardId : boardIds) {
+                if (reconcile(boardId)) {
+                    updated++;
+                }
+            }
+            if (boardIds.size() < BATCH_SIZE) {
+                return updated;
+            }
+            lastBoardId = boardIds.getLast();
+        }
+    }
+
+    /**
+     * 게시글 수 row를 먼저 잠그고 센다. 잠금 이후에 커밋되는 생성/삭제는 이 row에서 대기했다가 보정된 값 위에 증감한다.
+     * 게시글 수가 달랐으면 true
+     */
+    boolean reconcile(Long boardId) {
+        if (!boardArticleCountRepository.existsById(boardId)) {
+            transactionTemplate.executeWithoutResult(status -> boardArticleCountRepository.createIfAbsent(boardId));
+        }
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Long articleCount = boardArticleCountRepository.findLockedByBoardId(boardId).orElseThrow().getArticleCount();
+            Long actualArticleCount = articleRepository.countByBoardId(boardId);
+            if (articleCount.equals(actualArticleCount)) {
+                return false;
+            }
+            boardArticleCountRepository.updateArticleCount(boardId, actualArticleCount);
+            return true;
+        }));
+    }
+}
@@ -0,0 +1,57 @@
+package jamm.board.article.service.response;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+public class ArticleBulkCreateResponse {
+    private List<ItemResult> results;
+    private Long successCount;
+    private Long failureCount;
+    private Long elapsedMillis;
+    private Long rowsPerSecond;
+    // 요청 본문을 끝까지 읽었는지 - false면 errorMessage 위치에서 멈췄고, results는 그 전까지의 결과
+    private Boolean completed;
+    private String errorMessage;
+
+    public static ArticleBulkCreateResponse of(List<ItemResult> results, long elapsedNanos, String errorMessage) {
+        ArticleBulkCreateResponse response = new ArticleBulkCreateResponse();
+        response.results = results;
+        response.completed = errorMessage == null;
+        response.errorMessage = errorMessage;
+        response.successCount = results.stream().filter(ItemResult::getSuccess).count();
+        response.failureCount = results.size() - response.successCount;
+        response.elapsedMillis = elapsedNanos / 1_000_000;
+        response.rowsPerSecond = elapsedNanos == 0 ? 0L : (long) (response.successCount * 1_000_000_000.0 / elapsedNanos);
+        return response;
+    }
+
+    @Getter
+    @ToString
+    public static class ItemResult {
+        // 요청 배열에서의 위치
+        private Integer index;
+        private Long articleId;
+        private Boolean success;
+        private String errorMessage;
+
+        public static ItemResult success(int index, Long articleId) {
+            ItemResult result = new ItemResult();
+            result.index = index;
+            result.articleId = articleId;
+            result.success = true;
+            return result;
+        }
+
+        public static ItemResult failure(int index, String errorMessage) {
+            ItemResult result = new ItemResult();
+            result.index = index;
+            result.success = false;
+            result.errorMessage = errorMessage;
+            return result;
+        }
+    }
+}
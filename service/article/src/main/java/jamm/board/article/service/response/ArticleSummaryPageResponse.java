@@ -0,0 +1,21 @@
+package jamm.board.article.service.response;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+public class ArticleSummaryPageResponse {
+
+    private List<ArticleSummaryResponse> articles;
+    private Long articleCount;
+
+    public static ArticleSummaryPageResponse of(List<ArticleSummaryResponse> articles, Long articleCount) {
+        ArticleSummaryPageResponse response = new ArticleSummaryPageResponse();
+        response.articles = articles;
+        response.articleCount = articleCount;
+        return response;
+    }
+}
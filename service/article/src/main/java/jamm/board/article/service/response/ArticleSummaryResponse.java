@@ -0,0 +1,29 @@
+package jamm.board.article.service.response;
+
+import jamm.board.article.repository.ArticleSummary;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@ToString
+public class ArticleSummaryResponse {
+    private Long articleId;
+    private String title;
+    private Long boardId;
+    private Long writerId;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+
+    public static ArticleSummaryResponse from(ArticleSummary article) {
+        ArticleSummaryResponse response = new ArticleSummaryResponse();
+        response.articleId = article.getArticleId();
+        response.title = article.getTitle();
+        response.boardId = article.getBoardId();
+        response.writerId = article.getWriterId();
+        response.createdAt = article.getCreatedAt();
+        response.modifiedAt = article.getModifiedAt();
+        return response;
+    }
+}
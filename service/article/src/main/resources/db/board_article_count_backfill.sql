@@ -0,0 +1,7 @@
+-- board_article_count 채우기 : 게시글 목록의 articleCount와 게시판 게시글 수를 이 테이블에서 읽으므로,
+-- 테이블이 생기기 전부터 있던 게시글도 세어 둔다. 게시글 수를 쓰는 버전을 배포하기 전에 한 번 실행한다.
+-- (BoardArticleCountReconciler는 매일 새벽에만 돌기 때문에, 이 스크립트 없이 배포하면 그때까지 0으로 보인다.)
+
+INSERT INTO board_article_count (board_id, article_count)
+SELECT board_id, COUNT(*) FROM article GROUP BY board_id
+ON DUPLICATE KEY UPDATE article_count = VALUES(article_count);
@@ -1,5 +1,6 @@
 package jamm.board.article.api;
 
+import jamm.board.article.service.response.ArticleBulkCreateResponse;
 import jamm.board.article.service.response.ArticlePageResponse;
 import jamm.board.article.service.response.ArticleResponse;
 import lombok.AllArgsConstructor;
@@ -9,6 +10,7 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.web.client.RestClient;
 
 import java.util.List;
+import java.util.stream.LongStream;
 
 public class ArticleApiTest {
     RestClient restClient = RestClient.create("http://localhost:9000");
@@ -29,6 +31,22 @@ public class ArticleApiTest {
                 .body(ArticleResponse.class);
     }
 
+    @Test
+    void createBulkTest() {
+        List<ArticleCreateRequest> requests = LongStream.range(0, 10_000)
+                .mapToObj(i -> new ArticleCreateRequest("title" + i, "content" + i, 1L, 1L))
+                .toList();
+
+        ArticleBulkCreateResponse response = restClient.post()
+                .uri("/v1/articles/bulk")
+                .body(requests)
+                .retrieve()
+                .body(ArticleBulkCreateResponse.class);
+
+        System.out.println("response.getSuccessCount() = " + response.getSuccessCount());
+        System.out.println("response.getRowsPerSecond() = " + response.getRowsPerSecond());
+    }
+
     @Test
     void readTest() {
         ArticleResponse response = read(121530268440289280L);
@@ -55,6 +73,36 @@ public class ArticleApiTest {
         }
     }
 
+    @Test
+    void readAllStreamTest() {
+        ArticlePageResponse response = restClient.get()
+                .uri("/v1/articles/stream?boardId=1&pageSize=10000&page=1")
+                .retrieve()
+                .body(ArticlePageResponse.class);
+
+        System.out.println("response.getArticleCount() = " + response.getArticleCount());
+        System.out.println("response.getArticles().size() = " + response.getArticles().size());
+    }
+
+    @Test
+    void readAllLatencyByPageDepthTest() {
+        for (long page : new long[]{1L, 10L, 100L, 1000L, 10000L, 50000L}) {
+            // 첫 요청은 anchor 생성 비용이 포함되므로 두 번째 요청 시간을 같이 본다.
+            long first = measureReadAll(page);
+            long second = measureReadAll(page);
+            System.out.println("page = %s, first = %s ms, second = %s ms".formatted(page, first, second));
+        }
+    }
+
+    long measureReadAll(long page) {
+        long start = System.nanoTime();
+        restClient.get()
+                .uri("/v1/articles?boardId=1&pageSize=30&page=%s".formatted(page))
+                .retrieve()
+                .body(ArticlePageResponse.class);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
     @Test
     void readAllInfiniteScrollTest() {
         List<ArticleResponse> articles1 = restClient.get()
@@ -45,9 +45,10 @@ public class DataInitializer {
 
     void insert() {
         transactionTemplate.executeWithoutResult(status -> {
+            long[] ids = snowflake.nextIds(BULK_INSERT_SIZE);
             for(int i=0; i < BULK_INSERT_SIZE; i++) {
                 Article article = Article.create(
-                        snowflake.nextId(),
+                        ids[i],
                         "title" + i,
                         "content" + i,
                         1L,
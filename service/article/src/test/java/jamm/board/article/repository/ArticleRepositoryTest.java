@@ -6,7 +6,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.lang.management.ManagementFactory;
 import java.util.List;
+import java.util.function.Supplier;
 
 @SpringBootTest
 @Slf4j
@@ -46,8 +48,34 @@ class ArticleRepositoryTest {
             log.info("articleId={}", article.getArticleId());
         }
     }
-}
 
+    @Test
+    void findAllSummaryPerformanceTest() {
+        int repeatCount = 100;
+        // warm up
+        measure(() -> articleRepository.findAll(1L, 0L, 30L), 10);
+        measure(() -> articleRepository.findAllSummaries(1L, 0L, 30L), 10);
 
+        long[] entity = measure(() -> articleRepository.findAll(1L, 0L, 30L), repeatCount);
+        long[] summary = measure(() -> articleRepository.findAllSummaries(1L, 0L, 30L), repeatCount);
 
+        log.info("entity: {} us/query, {} bytes/query", entity[0], entity[1]);
+        log.info("summary: {} us/query, {} bytes/query", summary[0], summary[1]);
+    }
 
+    /**
+     * [평균 latency(us), 평균 할당 bytes]
+     */
+    long[] measure(Supplier<List<?>> query, int repeatCount) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < repeatCount; i++) {
+            query.get();
+        }
+        long end = System.nanoTime();
+        long endBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        return new long[]{(end - start) / 1_000 / repeatCount, (endBytes - startBytes) / repeatCount};
+    }
+}
@@ -0,0 +1,86 @@
+package jamm.board.article.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jamm.board.article.repository.ArticleBulkRepository;
+import jamm.board.article.repository.BoardArticleCountRepository;
+import jamm.board.article.service.response.ArticleBulkCreateResponse;
+import jamm.board.article.service.response.ArticleBulkCreateResponse.ItemResult;
+import kuke.board.common.snowflake.Snowflake;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleBulkServiceTest {
+    @Mock
+    TransactionTemplate transactionTemplate;
+    @Mock
+    Snowflake snowflake;
+    @Mock
+    ArticleBulkRepository articleBulkRepository;
+    @Mock
+    BoardArticleCountRepository boardArticleCountRepository;
+    @Mock
+    ArticlePageAnchorIndex articlePageAnchorIndex;
+    @Mock
+    ArticleFirstPageCache articleFirstPageCache;
+
+    ArticleBulkService articleBulkService;
+
+    @BeforeEach
+    void setUp() {
+        articleBulkService = new ArticleBulkService(new ObjectMapper(), transactionTemplate, snowflake,
+                articleBulkRepository, boardArticleCountRepository, articlePageAnchorIndex, articleFirstPageCache);
+        ReflectionTestUtils.setField(articleBulkService, "chunkSize", 2);
+    }
+
+    @Test
+    @DisplayName("객체가 아닌 원소를 만나면 멈추고, 그 전까지 저장된 chunk의 결과와 에러를 응답한다.")
+    void createStopsOnUnexpectedTokenTest() {
+        // given
+        given(snowflake.nextIds(anyInt())).willReturn(new long[]{1L, 2L});
+
+        // when
+        ArticleBulkCreateResponse response = articleBulkService.create(body(
+                "[" + article(1) + "," + article(2) + "," + article(3) + ", 1, " + article(4) + "]"));
+
+        // then
+        assertThat(response.getCompleted()).isFalse();
+        assertThat(response.getErrorMessage()).contains("element 3");
+        assertThat(response.getSuccessCount()).isEqualTo(2L);
+        assertThat(response.getResults()).extracting(ItemResult::getIndex).containsExactly(0, 1, 2);
+        assertThat(response.getResults().get(2).getSuccess()).isFalse();
+    }
+
+    @Test
+    @DisplayName("본문이 중간에 잘리면 빈 결과 대신 에러를 응답한다.")
+    void createTruncatedBodyTest() {
+        // when
+        ArticleBulkCreateResponse response = articleBulkService.create(body("[" + article(1)));
+
+        // then
+        assertThat(response.getCompleted()).isFalse();
+        assertThat(response.getErrorMessage()).isNotNull();
+        assertThat(response.getSuccessCount()).isZero();
+    }
+
+    private ByteArrayInputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String article(int i) {
+        return "{\"title\":\"title" + i + "\",\"content\":\"content\",\"writeId\":1,\"boardId\":1}";
+    }
+}
@@ -0,0 +1,83 @@
+package jamm.board.article.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jamm.board.article.entity.Article;
+import jamm.board.article.repository.ArticleRepository;
+import jamm.board.article.service.response.ArticleResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleDetailCacheTest {
+
+    @Mock
+    ArticleRepository articleRepository;
+
+    ArticleDetailCache articleDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        articleDetailCache = new ArticleDetailCache(articleRepository, 30L, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 게시글에 동시에 몰린 요청은 DB를 한 번만 조회한다.")
+    void thunderingHerdTest() throws Exception {
+        // given
+        given(articleRepository.findById(1L)).willAnswer(invocation -> {
+            Thread.sleep(100);
+            return Optional.of(Article.create(1L, "title", "content", 1L, 1L));
+        });
+        int threadCount = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<ArticleResponse>>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                return articleDetailCache.get(1L);
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<Optional<ArticleResponse>> future : futures) {
+            assertThat(future.get()).isPresent();
+        }
+        verify(articleRepository, times(1)).findById(1L);
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("없는 게시글도 캐시하고, evict 하면 다시 조회한다.")
+    void negativeCacheAndEvictTest() {
+        given(articleRepository.findById(2L)).willReturn(Optional.empty());
+
+        assertThat(articleDetailCache.get(2L)).isEmpty();
+        assertThat(articleDetailCache.get(2L)).isEmpty();
+        verify(articleRepository, times(1)).findById(2L);
+
+        articleDetailCache.evict(2L);
+        articleDetailCache.get(2L);
+        verify(articleRepository, times(2)).findById(2L);
+    }
+}
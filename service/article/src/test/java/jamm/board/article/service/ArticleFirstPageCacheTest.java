@@ -0,0 +1,105 @@
+package jamm.board.article.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jamm.board.article.entity.Article;
+import jamm.board.article.repository.ArticleRepository;
+import jamm.board.article.service.response.ArticleResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleFirstPageCacheTest {
+
+    @Mock
+    ArticleRepository articleRepository;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ArticleFirstPageCache articleFirstPageCache;
+
+    @BeforeEach
+    void setUp() {
+        articleFirstPageCache = new ArticleFirstPageCache(articleRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("두 번째 첫 페이지 조회부터는 DB를 조회하지 않는다.")
+    void readShouldHitCacheTest() {
+        given(articleRepository.findAllInfiniteScroll(1L, 100L))
+                .willReturn(List.of(article(3L), article(2L), article(1L)));
+
+        articleFirstPageCache.read(1L, 2L);
+        List<ArticleResponse> result = articleFirstPageCache.read(1L, 2L);
+
+        assertThat(result).extracting(ArticleResponse::getArticleId).containsExactly(3L, 2L);
+        verify(articleRepository, times(1)).findAllInfiniteScroll(1L, 100L);
+        assertThat(meterRegistry.get("article.first-page-cache.hit-ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("생성/수정/삭제가 캐시에 바로 반영된다.")
+    void writeThroughTest() {
+        given(articleRepository.findAllInfiniteScroll(1L, 100L))
+                .willReturn(List.of(article(3L), article(2L), article(1L)));
+        articleFirstPageCache.read(1L, 5L);
+
+        articleFirstPageCache.onCreated(ArticleResponse.from(article(4L)));
+        articleFirstPageCache.onDeleted(1L, 2L);
+        Article updated = article(3L);
+        updated.update("updated", "content");
+        articleFirstPageCache.onUpdated(ArticleResponse.from(updated));
+
+        List<ArticleResponse> result = articleFirstPageCache.read(1L, 5L);
+        assertThat(result).extracting(ArticleResponse::getArticleId).containsExactly(4L, 3L, 1L);
+        assertThat(result.get(1).getTitle()).isEqualTo("updated");
+        verify(articleRepository, times(1)).findAllInfiniteScroll(1L, 100L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 생성은 커밋 후에만 반영되고, 롤백되면 반영되지 않는다.")
+    void writeThroughAfterCommitTest() {
+        given(articleRepository.findAllInfiniteScroll(1L, 100L))
+                .willReturn(List.of(article(3L), article(2L), article(1L)));
+        articleFirstPageCache.read(1L, 5L);
+
+        // 롤백
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            articleFirstPageCache.onCreated(ArticleResponse.from(article(4L)));
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(articleFirstPageCache.read(1L, 5L)).extracting(ArticleResponse::getArticleId).containsExactly(3L, 2L, 1L);
+
+        // 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            articleFirstPageCache.onCreated(ArticleResponse.from(article(5L)));
+            assertThat(articleFirstPageCache.read(1L, 5L)).extracting(ArticleResponse::getArticleId).containsExactly(3L, 2L, 1L);
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(articleFirstPageCache.read(1L, 5L)).extracting(ArticleResponse::getArticleId).containsExactly(5L, 3L, 2L, 1L);
+        verify(articleRepository, times(1)).findAllInfiniteScroll(1L, 100L);
+    }
+
+    private Article article(Long articleId) {
+        return Article.create(articleId, "title" + articleId, "content", 1L, 1L);
+    }
+}
@@ -0,0 +1,105 @@
+package jamm.board.article.service;
+
+import jamm.board.article.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ArticlePageAnchorIndexTest {
+
+    @InjectMocks
+    ArticlePageAnchorIndex articlePageAnchorIndex;
+
+    @Mock
+    ArticleRepository articleRepository;
+
+    @Test
+    @DisplayName("첫 anchor 간격보다 얕은 페이지는 anchor 없이 조회한다.")
+    void resolveShallowPageTest() {
+        ArticlePageAnchorIndex.PageAnchor anchor = articlePageAnchorIndex.resolve(1L, 990L);
+
+        assertThat(anchor.getArticleId()).isNull();
+        assertThat(anchor.getOffset()).isEqualTo(990L);
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    @DisplayName("깊은 페이지는 가장 가까운 anchor와 남은 offset으로 바꾼다.")
+    void resolveDeepPageTest() {
+        given(articleRepository.findAnchorArticleIds(1L, Long.MAX_VALUE, 2501L, 1000L))
+                .willReturn(List.of(10000L, 9000L, 8000L));
+
+        resolveTest(2500L, 8000L, 500L);
+    }
+
+    @Test
+    @DisplayName("더 깊은 페이지는 마지막 anchor부터 이어서 anchor를 만든다.")
+    void resolveShouldExtendFromLastAnchorTest() {
+        given(articleRepository.findAnchorArticleIds(1L, Long.MAX_VALUE, 2501L, 1000L))
+                .willReturn(List.of(10000L, 9000L, 8000L));
+        given(articleRepository.findAnchorArticleIds(1L, 8000L, 1501L, 1000L))
+                .willReturn(List.of(8000L, 7000L));
+
+        resolveTest(2500L, 8000L, 500L);
+        resolveTest(3500L, 7000L, 500L);
+    }
+
+    @Test
+    @DisplayName("생성/삭제된 게시글보다 아래 있는 anchor의 위치를 옮긴다.")
+    void resolveAfterCreateAndDeleteTest() {
+        given(articleRepository.findAnchorArticleIds(1L, Long.MAX_VALUE, 2501L, 1000L))
+                .willReturn(List.of(10000L, 9000L, 8000L));
+        resolveTest(2500L, 8000L, 500L);
+
+        // 맨 위에 생성 -> 모든 anchor가 1칸 밀린다.
+        articlePageAnchorIndex.onCreated(1L, 20000L);
+        resolveTest(2500L, 8000L, 499L);
+
+        // 9000과 8000 사이에서 삭제 -> 8000만 1칸 당겨진다.
+        articlePageAnchorIndex.onDeleted(1L, 8500L);
+        resolveTest(2500L, 8000L, 500L);
+        resolveTest(1500L, 9000L, 499L);
+    }
+
+    @Test
+    @DisplayName("커밋 전에 생성된 게시글을 anchor를 만든 조회가 보았을 수 있으면, 옮기지 않고 anchor를 다시 만든다.")
+    void createCommittedDuringExtendTest() {
+        given(articleRepository.findAnchorArticleIds(1L, Long.MAX_VALUE, 2501L, 1000L))
+                .willReturn(List.of(10000L, 9000L, 8000L))
+                .willReturn(List.of(20000L, 10000L, 9000L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            articlePageAnchorIndex.onCreated(1L, 20000L);
+            // 커밋 후 shift가 실행되기 전에 anchor를 만든 조회 - 새 게시글을 이미 보았을 수 있다.
+            resolveTest(2500L, 8000L, 500L);
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // 한 번 더 옮겨서 499가 되지 않고, 다시 만든 anchor로 응답한다.
+        resolveTest(2500L, 9000L, 500L);
+        verify(articleRepository, times(2)).findAnchorArticleIds(1L, Long.MAX_VALUE, 2501L, 1000L);
+    }
+
+    void resolveTest(Long offset, Long expectedArticleId, Long expectedOffset) {
+        ArticlePageAnchorIndex.PageAnchor anchor = articlePageAnchorIndex.resolve(1L, offset);
+        assertThat(anchor.getArticleId()).isEqualTo(expectedArticleId);
+        assertThat(anchor.getOffset()).isEqualTo(expectedOffset);
+    }
+}
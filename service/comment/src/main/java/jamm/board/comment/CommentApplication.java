@@ -1,9 +1,12 @@
 package jamm.board.comment;
 
+import kuke.board.common.snowflake.IdGeneratorConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
+@Import(IdGeneratorConfig.class)
 public class CommentApplication {
     public static void main(String[] args) {
         SpringApplication.run(CommentApplication.class, args);
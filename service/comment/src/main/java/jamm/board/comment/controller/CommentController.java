@@ -1,19 +1,26 @@
 package jamm.board.comment.controller;
 
+import jamm.board.comment.service.CommentPageStreamWriter;
 import jamm.board.comment.service.CommentService;
 import jamm.board.comment.service.request.CommentCreateRequest;
+import jamm.board.comment.service.response.CommentInfiniteScrollResponse;
 import jamm.board.comment.service.response.CommentPageResponse;
 import jamm.board.comment.service.response.CommentResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentPageStreamWriter commentPageStreamWriter;
 
     @GetMapping("/v1/comments/{commentId}")
     public CommentResponse read(
@@ -27,6 +34,14 @@ public class CommentController {
         return commentService.create(request);
     }
 
+    /**
+     * 댓글 일괄 생성 - 부모 검증은 IN 쿼리 한 번, insert는 JDBC batch (최대 1000개, 전체 성공 또는 전체 실패)
+     */
+    @PostMapping("/v1/comments/batch")
+    public List<CommentResponse> createAll(@RequestBody List<CommentCreateRequest> requests) {
+        return commentService.createAll(requests);
+    }
+
     @DeleteMapping("/v1/comments/{commentId}")
     public void delete(@PathVariable("commentId") Long commentId) {
         commentService.delete(commentId);
@@ -41,6 +56,27 @@ public class CommentController {
         return commentService.readAll(articleId, page, pageSize);
     }
 
+    /**
+     * /v1/comments와 같은 응답을 DB에서 읽는 대로 바로 내려준다. - 큰 pageSize용
+     */
+    @GetMapping(value = "/v1/comments/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamingResponseBody readAllStream(
+            @RequestParam("articleId") Long articleId,
+            @RequestParam("page") Long page,
+            @RequestParam("pageSize") Long pageSize
+    ) {
+        Long commentCount = commentService.count(articleId, page, pageSize);
+        return out -> commentPageStreamWriter.write(articleId, page, pageSize, commentCount, out);
+    }
+
+    /**
+     * 게시글 목록의 댓글 수 - /v1/comments/counts?articleIds=1,2,3
+     */
+    @GetMapping("/v1/comments/counts")
+    public Map<Long, Long> counts(@RequestParam("articleIds") List<Long> articleIds) {
+        return commentService.counts(articleIds);
+    }
+
     @GetMapping("/v1/comments/infinite-scroll")
     public List<CommentResponse> readAll(
             @RequestParam("articleId") Long articleId,
@@ -51,4 +87,23 @@ public class CommentController {
         return commentService.readAll(articleId, lastParentCommentId, lastCommentId, pageSize);
     }
 
+    /**
+     * 무한 스크롤 (커서) - 첫 페이지는 cursor 없이, 다음 페이지는 응답의 nextCursor를 그대로 보낸다.
+     */
+    @GetMapping("/v1/comments/infinite-scroll/cursor")
+    public CommentInfiniteScrollResponse readAllInfiniteScroll(
+            @RequestParam("articleId") Long articleId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("pageSize") Long pageSize
+    ) {
+        return commentService.readAllInfiniteScroll(articleId, cursor, pageSize);
+    }
+
+    /**
+     * 잘못된 요청 값(pageSize, cursor, 일괄 생성 크기 등)은 500이 아니라 400으로 응답한다.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
 }
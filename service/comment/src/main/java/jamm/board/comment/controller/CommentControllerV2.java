@@ -0,0 +1,81 @@
+package jamm.board.comment.controller;
+
+import jamm.board.comment.service.CommentServiceV2;
+import jamm.board.comment.service.request.CommentCreateRequestV2;
+import jamm.board.comment.service.response.CommentPageResponse;
+import jamm.board.comment.service.response.CommentResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class CommentControllerV2 {
+
+    private final CommentServiceV2 commentService;
+
+    @GetMapping("/v2/comments/{commentId}")
+    public CommentResponse read(
+            @PathVariable("commentId") Long commentId
+    ) {
+        return commentService.read(commentId);
+    }
+
+    @PostMapping("/v2/comments")
+    public CommentResponse create(@RequestBody CommentCreateRequestV2 request) {
+        return commentService.create(request);
+    }
+
+    @DeleteMapping("/v2/comments/{commentId}")
+    public void delete(@PathVariable("commentId") Long commentId) {
+        commentService.delete(commentId);
+    }
+
+    @GetMapping("/v2/comments")
+    public CommentPageResponse readAll(
+            @RequestParam("articleId") Long articleId,
+            @RequestParam("page") Long page,
+            @RequestParam("pageSize") Long pageSize
+    ) {
+        return commentService.readAll(articleId, page, pageSize);
+    }
+
+    @GetMapping("/v2/comments/infinite-scroll")
+    public List<CommentResponse> readAllInfiniteScroll(
+            @RequestParam("articleId") Long articleId,
+            @RequestParam(value = "lastPath", required = false) String lastPath,
+            @RequestParam("pageSize") Long pageSize
+    ) {
+        return commentService.readAllInfiniteScroll(articleId, lastPath, pageSize);
+    }
+
+    @GetMapping("/v2/comments/descendants")
+    public List<CommentResponse> readAllDescendants(
+            @RequestParam("articleId") Long articleId,
+            @RequestParam("path") String path,
+            @RequestParam(value = "lastPath", required = false) String lastPath,
+            @RequestParam("pageSize") Long pageSize
+    ) {
+        return commentService.readAllDescendants(articleId, path, lastPath, pageSize);
+    }
+
+    /**
+     * 잘못된 path, lastPath, parentPath는 500이 아니라 400으로 응답한다.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    /**
+     * 다시 시도해도 다른 인스턴스와 path가 계속 겹치면 409로 응답한다. (클라이언트가 다시 요청할 수 있다.)
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> handleDataIntegrityViolation(DataIntegrityViolationException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("comment path conflict, retry later");
+    }
+}
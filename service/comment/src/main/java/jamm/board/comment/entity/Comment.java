@@ -2,6 +2,7 @@ package jamm.board.comment.entity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -10,7 +11,13 @@ import lombok.ToString;
 
 import java.time.LocalDateTime;
 
-@Table(name = "comment")
+@Table(
+        name = "comment",
+        indexes = @Index(
+                name = "idx_article_id_parent_comment_id_comment_id",
+                columnList = "article_id, parent_comment_id, comment_id"
+        )
+)
 @Getter
 @Entity
 @ToString
@@ -6,6 +6,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+import java.util.Arrays;
+
 @Getter
 @ToString
 @Embeddable
@@ -18,9 +20,24 @@ public class CommentPath {
     private static final int DEPTH_CHUNK_SIZE = 5;
     private static final int MAX_DEPTH = 5;
 
-    // MIN_CHUNK = "00000" MAX_CHUNK = "zzzzz"
+    // MIN_CHUNK = "00000"
     private static final String MIN_CHUNK = String.valueOf(CHARSET.charAt(0)).repeat(DEPTH_CHUNK_SIZE);
-    private static final String MAX_CHUNK = String.valueOf(CHARSET.charAt(CHARSET.length() - 1)).repeat(DEPTH_CHUNK_SIZE);
+    // "zzzzz" = 62^5 - 1
+    static final int MAX_CHUNK_VALUE = (int) Math.pow(CHARSET.length(), DEPTH_CHUNK_SIZE) - 1;
+
+    // 바이너리 표현에서 chunk 하나의 크기 - 62^5 < 2^30 이라 4바이트면 충분하다.
+    static final int CHUNK_BYTES = 4;
+    // 자손 범위 상한에 붙이는 바이트 - chunk의 첫 바이트는 최대 (62^5 - 1) >>> 24 = 0x36
+    private static final byte DESCENDANTS_UPPER_BOUND = (byte) 0xFF;
+
+    // 문자 -> CHARSET 인덱스 (CHARSET.indexOf 대신 배열 조회)
+    private static final byte[] CHARSET_INDEX = new byte[128];
+
+    static {
+        for (int i = 0; i < CHARSET.length(); i++) {
+            CHARSET_INDEX[CHARSET.charAt(i)] = (byte) i;
+        }
+    }
 
     /**
      * 팩토리 메서드
@@ -34,6 +51,26 @@ public class CommentPath {
         return commentPath;
     }
 
+    /**
+     * 클라이언트가 보낸 path 검사 - 길이가 5의 배수, depth <= MAX_DEPTH, 모든 문자가 CHARSET
+     * 검사하지 않으면 CHARSET 밖의 문자는 0으로 읽히고, 남는 길이는 잘려서 다른 path로 조회한다.
+     */
+    public static String validate(String path) {
+        if (path == null) {
+            throw new IllegalArgumentException("path is required");
+        }
+        if (path.length() % DEPTH_CHUNK_SIZE != 0 || isDepthOverflowed(path)) {
+            throw new IllegalArgumentException("invalid path length: " + path.length());
+        }
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c >= CHARSET_INDEX.length || CHARSET.charAt(CHARSET_INDEX[c]) != c) {
+                throw new IllegalArgumentException("invalid path char at " + i + ": " + path);
+            }
+        }
+        return path;
+    }
+
     private static boolean isDepthOverflowed(String path) {
         return calDepth(path) > MAX_DEPTH;
     }
@@ -74,36 +111,116 @@ public class CommentPath {
         return descendantsTopPath.substring(0, (getDepth() + 1) * DEPTH_CHUNK_SIZE);
     }
 
-    private String increase(String path) {
-        //00000 00000 여기서 마지막 00000 짤라줌
-        String lastChunk = path.substring(path.length() - DEPTH_CHUNK_SIZE);
-        if (isChunkOverflowed(lastChunk)) { // 이 때 childrenTopPath = zzzzz까지 댓글이 생성되어 있는 경우 방지
+    /**
+     * childIndex번째 자식 path - 자손을 조회하지 않고 바로 만든다. (CommentPathAllocator에서 사용)
+     */
+    public CommentPath createChildCommentPath(int childIndex) {
+        if (childIndex < 0 || childIndex > MAX_CHUNK_VALUE) {
             throw new IllegalStateException("chunk overflowed");
         }
+        char[] result = new char[path.length() + DEPTH_CHUNK_SIZE];
+        path.getChars(0, path.length(), result, 0);
+        encodeChunk(childIndex, result, path.length());
+        return CommentPath.create(new String(result));
+    }
 
-        int charsetLength = CHARSET.length();
+    /**
+     * descendantsTopPath가 속한 자식이 몇 번째 자식인지 - 자손이 없으면(null) -1
+     */
+    public int findChildIndex(String descendantsTopPath) {
+        if (descendantsTopPath == null) {
+            return -1;
+        }
+        return decodeChunk(descendantsTopPath, getDepth() * DEPTH_CHUNK_SIZE);
+    }
 
-        int value = 0;
-        for (char ch : lastChunk.toCharArray()) {
-            value = value * charsetLength + CHARSET.indexOf(ch);
+    private String increase(String path) {
+        //00000 00000 여기서 마지막 00000을 숫자로 바꿔 1을 더해준다.
+        int offset = path.length() - DEPTH_CHUNK_SIZE;
+        int value = decodeChunk(path, offset);
+        if (value == MAX_CHUNK_VALUE) { // 이 때 childrenTopPath = zzzzz까지 댓글이 생성되어 있는 경우 방지
+            throw new IllegalStateException("chunk overflowed");
         }
 
-        value = value + 1;
+        char[] result = path.toCharArray();
+        encodeChunk(value + 1, result, offset);
+        return new String(result);
+    }
 
-        String result = "";
+    /**
+     * path[offset, offset + 5) 의 62진수 값 - 할당 없음
+     * 문자를 검사하지 않는다. 클라이언트가 보낸 path는 validate를 거친 뒤 부른다.
+     */
+    static int decodeChunk(CharSequence path, int offset) {
+        int charsetLength = CHARSET.length();
+        int value = 0;
+        for (int i = 0; i < DEPTH_CHUNK_SIZE; i++) {
+            value = value * charsetLength + CHARSET_INDEX[path.charAt(offset + i)];
+        }
+        return value;
+    }
 
-        for(int i=0; i<DEPTH_CHUNK_SIZE;i++) {
-            result = CHARSET.charAt(value % charsetLength) + result;
+    /**
+     * value를 62진수 5자리로 dest[offset, offset + 5)에 쓴다. - 할당 없음
+     */
+    static void encodeChunk(int value, char[] dest, int offset) {
+        int charsetLength = CHARSET.length();
+        for (int i = DEPTH_CHUNK_SIZE - 1; i >= 0; i--) {
+            dest[offset + i] = CHARSET.charAt(value % charsetLength);
             value /= charsetLength;
         }
+    }
 
-        return path.substring(0, path.length() - DEPTH_CHUNK_SIZE) + result;
-
+    /**
+     * 바이너리 표현 - chunk마다 62진수 값을 4바이트 big-endian으로 쓴다. (최대 20바이트)
+     * - 바이트 순서(unsigned)가 문자열 path 순서와 같고, 부모의 바이트가 자식의 prefix가 된다.
+     */
+    public byte[] toBytes() {
+        return toBytes(path);
     }
 
-    private boolean isChunkOverflowed(String lastChunk) {
-        return MAX_CHUNK.equals(lastChunk);
+    /**
+     * 자손 범위의 상한 (exclusive) - 자손은 모두 toBytes() < x < toDescendantsUpperBound()
+     */
+    public byte[] toDescendantsUpperBound() {
+        byte[] bytes = toBytes(path);
+        byte[] result = Arrays.copyOf(bytes, bytes.length + 1);
+        result[bytes.length] = DESCENDANTS_UPPER_BOUND;
+        return result;
     }
 
+    public static byte[] toBytes(String path) {
+        validate(path);
+        int depth = calDepth(path);
+        byte[] bytes = new byte[depth * CHUNK_BYTES];
+        for (int i = 0; i < depth; i++) {
+            int value = decodeChunk(path, i * DEPTH_CHUNK_SIZE);
+            int offset = i * CHUNK_BYTES;
+            bytes[offset] = (byte) (value >>> 24);
+            bytes[offset + 1] = (byte) (value >>> 16);
+            bytes[offset + 2] = (byte) (value >>> 8);
+            bytes[offset + 3] = (byte) value;
+        }
+        return bytes;
+    }
 
+    public static String fromBytes(byte[] bytes) {
+        if (bytes.length % CHUNK_BYTES != 0) {
+            throw new IllegalArgumentException("invalid path bytes length: " + bytes.length);
+        }
+        int depth = bytes.length / CHUNK_BYTES;
+        char[] result = new char[depth * DEPTH_CHUNK_SIZE];
+        for (int i = 0; i < depth; i++) {
+            int offset = i * CHUNK_BYTES;
+            int value = (bytes[offset] & 0xFF) << 24
+                    | (bytes[offset + 1] & 0xFF) << 16
+                    | (bytes[offset + 2] & 0xFF) << 8
+                    | (bytes[offset + 3] & 0xFF);
+            if (value < 0 || value > MAX_CHUNK_VALUE) {
+                throw new IllegalArgumentException("invalid path chunk: " + value);
+            }
+            encodeChunk(value, result, i * DEPTH_CHUNK_SIZE);
+        }
+        return new String(result);
+    }
 }
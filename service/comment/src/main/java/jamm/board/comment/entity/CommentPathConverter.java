@@ -0,0 +1,23 @@
+package jamm.board.comment.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * path 문자열(62진수 5자리 x depth) <-> 바이너리(4바이트 x depth)
+ * - 컬럼은 VARBINARY(20). 바이트 비교만으로 path 순서가 유지되어 collation이 필요 없다.
+ * - 기존 VARCHAR 컬럼은 resources/db/comment_v2_path_varbinary.sql로 옮긴다.
+ */
+@Converter
+public class CommentPathConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String path) {
+        return path == null ? null : CommentPath.toBytes(path);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] bytes) {
+        return bytes == null ? null : CommentPath.fromBytes(bytes);
+    }
+}
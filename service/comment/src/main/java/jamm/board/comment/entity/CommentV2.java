@@ -1,5 +1,6 @@
 package jamm.board.comment.entity;
 
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -25,6 +26,7 @@ public class CommentV2 {
     private Long writerId;
 
     @Embedded
+    @Convert(converter = CommentPathConverter.class, attributeName = "path")
     private CommentPath commentPath;
     private Boolean deleted;
     private LocalDateTime createdAt;
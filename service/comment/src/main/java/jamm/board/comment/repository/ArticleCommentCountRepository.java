@@ -0,0 +1,45 @@
+package jamm.board.comment.repository;
+
+import jamm.board.comment.entity.ArticleCommentCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게시글별 댓글 수 - comment 테이블의 row 수와 같게 유지한다. (삭제 표시된 댓글도 row가 남아 있으면 포함)
+ */
+@Repository
+public interface ArticleCommentCountRepository extends JpaRepository<ArticleCommentCount, Long> {
+
+    /**
+     * 댓글 수 증가 - row가 없으면 1로 만들고, 있으면 row lock 안에서 원자적으로 더한다.
+     * 조회 후 저장하지 않으므로 동시에 생성되어도 갱신이 유실되지 않는다.
+     */
+    @Query(
+            value = "insert into article_comment_count (article_id, comment_count) values (:articleId, 1) " +
+                    "on duplicate key update comment_count = comment_count + 1",
+            nativeQuery = true
+    )
+    @Modifying
+    int increase(@Param("articleId") Long articleId);
+
+    @Query(
+            value = "insert into article_comment_count (article_id, comment_count) values (:articleId, :count) " +
+                    "on duplicate key update comment_count = comment_count + :count",
+            nativeQuery = true
+    )
+    @Modifying
+    int increase(@Param("articleId") Long articleId, @Param("count") Long count);
+
+    /**
+     * 댓글 수 감소 - 실제로 삭제된 row 수만큼 뺀다.
+     */
+    @Query(
+            value = "update article_comment_count set comment_count = comment_count - :count where article_id = :articleId",
+            nativeQuery = true
+    )
+    @Modifying
+    int decrease(@Param("articleId") Long articleId, @Param("count") Long count);
+}
@@ -0,0 +1,35 @@
+package jamm.board.comment.repository;
+
+import jamm.board.comment.entity.Comment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JPA persist(merge 전 select)를 거치지 않는 JDBC batch insert - 댓글 일괄 생성용
+ * (MySQL은 rewriteBatchedStatements=true 일 때 multi-row insert로 보낸다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentBulkRepository {
+    private static final String INSERT_SQL =
+            "insert into comment (comment_id, content, parent_comment_id, article_id, writer_id, deleted, created_at) " +
+            "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Comment> comments) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, comments, comments.size(), (ps, comment) -> {
+            ps.setLong(1, comment.getCommentId());
+            ps.setString(2, comment.getContent());
+            ps.setLong(3, comment.getParentCommentId());
+            ps.setLong(4, comment.getArticleId());
+            ps.setLong(5, comment.getWriterId());
+            ps.setBoolean(6, comment.getDeleted());
+            ps.setTimestamp(7, Timestamp.valueOf(comment.getCreatedAt()));
+        });
+    }
+}
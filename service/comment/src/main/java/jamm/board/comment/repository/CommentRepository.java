@@ -2,6 +2,7 @@ package jamm.board.comment.repository;
 
 import jamm.board.comment.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,14 +13,21 @@ import java.util.List;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
-     * 특정 게시글에서 해당 parentCommentId가 id인 갯수
+     * 첫 자식 하나만 찾는 쿼리 - deleteIfNoChildren과 실행 계획 테스트가 같이 쓴다.
+     */
+    String CHILD_PROBE = "select comment_id from comment " +
+            "where article_id = :articleId and parent_comment_id = :commentId and comment_id <> :commentId " +
+            "limit 1";
+
+    /**
+     * 특정 게시글에서 해당 parentCommentId가 id인 갯수 (limit개까지만 센다, 부모 자신 포함)
      */
     @Query(
             value = "select count(*) from (" +
-                    "select comment_id from comment " +
-                    "where article_id = :articleId and parent_comment_id = :parentCommentId" +
-                    "limit :limit" +
-                    ")",
+                    "   select comment_id from comment " +
+                    "   where article_id = :articleId and parent_comment_id = :parentCommentId " +
+                    "   limit :limit" +
+                    ") t",
             nativeQuery = true
     )
     Long countBy(
@@ -28,6 +36,51 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             @Param("limit") Long limit
     );
 
+    /**
+     * 자식 댓글이 없을 때만 삭제 - 삭제된 row 수 반환 (0이면 자식이 있음)
+     * 자식 확인은 (article_id, parent_comment_id, comment_id) 인덱스에서 첫 자식 하나만 찾고 멈춘다.
+     * MySQL은 delete 대상 테이블을 서브쿼리에서 바로 참조할 수 없어서 derived table로 감싼다.
+     */
+    @Query(
+            value = "delete from comment " +
+                    "where article_id = :articleId and comment_id = :commentId " +
+                    "and not exists (" +
+                    "   select 1 from (" + CHILD_PROBE + ") t" +
+                    ")",
+            nativeQuery = true
+    )
+    @Modifying
+    int deleteIfNoChildren(
+            @Param("articleId") Long articleId,
+            @Param("commentId") Long commentId
+    );
+
+    /**
+     * 대댓글 삭제 - 부모가 삭제 표시되어 있고 다른 자식이 없으면 부모도 같은 문장에서 삭제한다.
+     */
+    @Query(
+            value = "delete from comment " +
+                    "where article_id = :articleId and (" +
+                    "   comment_id = :commentId or (" +
+                    "       comment_id = :parentCommentId and deleted = true and not exists (" +
+                    "           select 1 from (" +
+                    "               select comment_id from comment " +
+                    "               where article_id = :articleId and parent_comment_id = :parentCommentId " +
+                    "               and comment_id <> :parentCommentId and comment_id <> :commentId " +
+                    "               limit 1" +
+                    "           ) t" +
+                    "       )" +
+                    "   )" +
+                    ")",
+            nativeQuery = true
+    )
+    @Modifying
+    int deleteWithDeletedParent(
+            @Param("articleId") Long articleId,
+            @Param("commentId") Long commentId,
+            @Param("parentCommentId") Long parentCommentId
+    );
+
     /**
      * 해당 article에 대한 comment 모든 정보 조회
      */
@@ -47,20 +100,6 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             @Param("limit") Long limit
     );
 
-    /**
-     * 해당 article에 대한 모든 comment 조회
-     */
-    @Query(
-            value = "select count(*) from (" +
-                    "   select comment_id from comment where article_id = :articleId limit :limit" +
-                    ") t",
-            nativeQuery = true
-    )
-    Long count(
-            @Param("articleId") Long articleId,
-            @Param("limit") Long limit
-    );
-
     /**
      * 해당 article에 대한 comment 정보 조회 (무한 스크롤)
      */
@@ -6,12 +6,97 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * 모든 조회는 (article_id, path) 인덱스 위의 range scan 한 번으로 끝난다.
+ * path 컬럼은 VARBINARY(20) - CommentPathConverter가 chunk마다 4바이트로 저장하고, 바이트 순서가 곧 path 순서다.
+ * native query의 path 파라미터도 CommentPath.toBytes()로 바꿔서 넘긴다.
+ */
 @Repository
 public interface CommentRepositoryV2 extends JpaRepository<CommentV2,Long> {
 
-    @Query("select c from CommentV2 c where c.commentPath = :path")
-    Optional<CommentV2> findByPath(@Param("path") String path);
+    @Query("select c from CommentV2 c where c.articleId = :articleId and c.commentPath.path = :path")
+    Optional<CommentV2> findByPath(@Param("articleId") Long articleId, @Param("path") String path);
 
+    /**
+     * (pathFrom, pathTo) 범위 - 한 path의 모든 자손 중 가장 큰 path (신규 자식 path 계산용)
+     */
+    @Query(
+            value = "select path from comment_v2 " +
+                    "where article_id = :articleId and path > :pathFrom and path < :pathTo " +
+                    "order by path desc limit 1",
+            nativeQuery = true
+    )
+    Optional<byte[]> findDescendantsTopPath(
+            @Param("articleId") Long articleId,
+            @Param("pathFrom") byte[] pathFrom,
+            @Param("pathTo") byte[] pathTo
+    );
+
+    /**
+     * 페이지 번호 - path 순서(트리 순서)
+     */
+    @Query(
+            value = "select comment_v2.comment_id, comment_v2.content, comment_v2.path, comment_v2.article_id, " +
+                    "comment_v2.writer_id, comment_v2.deleted, comment_v2.created_at " +
+                    "from (" +
+                    "   select comment_id from comment_v2 where article_id = :articleId " +
+                    "   order by path asc " +
+                    "   limit :limit offset :offset " +
+                    ") t left join comment_v2 on t.comment_id = comment_v2.comment_id",
+            nativeQuery = true
+    )
+    List<CommentV2> findAll(
+            @Param("articleId") Long articleId,
+            @Param("offset") Long offset,
+            @Param("limit") Long limit
+    );
+
+    @Query(
+            value = "select count(*) from (" +
+                    "   select comment_id from comment_v2 where article_id = :articleId limit :limit" +
+                    ") t",
+            nativeQuery = true
+    )
+    Long count(@Param("articleId") Long articleId, @Param("limit") Long limit);
+
+    /**
+     * 무한 스크롤 - path keyset
+     */
+    @Query(
+            value = "select comment_v2.comment_id, comment_v2.content, comment_v2.path, comment_v2.article_id, " +
+                    "comment_v2.writer_id, comment_v2.deleted, comment_v2.created_at " +
+                    "from comment_v2 " +
+                    "where article_id = :articleId and path > :lastPath " +
+                    "order by path asc " +
+                    "limit :limit",
+            nativeQuery = true
+    )
+    List<CommentV2> findAllInfiniteScroll(
+            @Param("articleId") Long articleId,
+            @Param("lastPath") byte[] lastPath,
+            @Param("limit") Long limit
+    );
+
+    /**
+     * 서브 트리 조회 - [pathFrom, pathTo) 범위(자신과 모든 자손)를 path 순서로, lastPath 이후부터
+     */
+    @Query(
+            value = "select comment_v2.comment_id, comment_v2.content, comment_v2.path, comment_v2.article_id, " +
+                    "comment_v2.writer_id, comment_v2.deleted, comment_v2.created_at " +
+                    "from comment_v2 " +
+                    "where article_id = :articleId and path >= :pathFrom and path < :pathTo and path > :lastPath " +
+                    "order by path asc " +
+                    "limit :limit",
+            nativeQuery = true
+    )
+    List<CommentV2> findAllDescendants(
+            @Param("articleId") Long articleId,
+            @Param("pathFrom") byte[] pathFrom,
+            @Param("pathTo") byte[] pathTo,
+            @Param("lastPath") byte[] lastPath,
+            @Param("limit") Long limit
+    );
 }
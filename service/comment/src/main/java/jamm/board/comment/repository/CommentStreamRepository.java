@@ -0,0 +1,37 @@
+package jamm.board.comment.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/**
+ * 조회 결과를 List로 모으지 않고 row 단위로 넘겨주는 JDBC cursor 조회
+ */
+@Repository
+public class CommentStreamRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public CommentStreamRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL Connector/J는 fetchSize가 Integer.MIN_VALUE일 때 결과를 한 번에 받지 않고 row 단위로 스트리밍한다.
+        this.jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * CommentRepository.findAll과 같은 조회 (2 depth 페이지 번호)
+     */
+    public void streamAll(Long articleId, Long offset, Long limit, RowCallbackHandler handler) {
+        jdbcTemplate.query(
+                "select comment.comment_id, comment.content, comment.parent_comment_id, comment.article_id, " +
+                        "comment.writer_id, comment.deleted, comment.created_at " +
+                        "from (" +
+                        "     select comment_id from comment where article_id = ? " +
+                        "     order by parent_comment_id asc, comment_id asc " +
+                        "     limit ? offset ? " +
+                        ") t left join comment on t.comment_id = comment.comment_id",
+                handler, articleId, limit, offset
+        );
+    }
+}
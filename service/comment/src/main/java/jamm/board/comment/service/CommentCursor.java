@@ -0,0 +1,49 @@
+package jamm.board.comment.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 2 depth 무한 스크롤 위치 - (parentCommentId, commentId)를 16바이트로 묶어 URL-safe base64(22자)로 주고받는다.
+ * 클라이언트는 내용을 해석하지 않고 받은 그대로 다시 보낸다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CommentCursor {
+    private static final int BYTES = Long.BYTES * 2;
+
+    private final Long lastParentCommentId;
+    private final Long lastCommentId;
+
+    public static CommentCursor of(Long lastParentCommentId, Long lastCommentId) {
+        return new CommentCursor(lastParentCommentId, lastCommentId);
+    }
+
+    public String encode() {
+        byte[] bytes = ByteBuffer.allocate(BYTES)
+                .putLong(lastParentCommentId)
+                .putLong(lastCommentId)
+                .array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public static CommentCursor decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid cursor: " + token, e);
+        }
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException("invalid cursor: " + token);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new CommentCursor(buffer.getLong(), buffer.getLong());
+    }
+}
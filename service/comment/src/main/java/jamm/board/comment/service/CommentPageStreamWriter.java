@@ -0,0 +1,62 @@
+package jamm.board.comment.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jamm.board.comment.repository.CommentStreamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * CommentPageResponse와 같은 JSON을 DB cursor에서 읽는 대로 바로 써 내려간다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentPageStreamWriter {
+    private final ObjectMapper objectMapper;
+    private final CommentStreamRepository commentStreamRepository;
+
+    public void write(Long articleId, Long page, Long pageSize, Long commentCount, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("comments");
+
+            commentStreamRepository.streamAll(articleId, (page - 1) * pageSize, pageSize, rs -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField("commentId", rs.getLong("comment_id"));
+                    generator.writeStringField("content", rs.getString("content"));
+                    writeNullableLongField(generator, "parentCommentId", rs, "parent_comment_id");
+                    generator.writeNumberField("articleId", rs.getLong("article_id"));
+                    writeNullableLongField(generator, "writerId", rs, "writer_id");
+                    generator.writeBooleanField("deleted", rs.getBoolean("deleted"));
+                    generator.writePOJOField("createdAt", rs.getObject("created_at", LocalDateTime.class));
+                    generator.writeEndObject();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            generator.writeEndArray();
+            generator.writeNumberField("commentCount", commentCount);
+            generator.writeEndObject();
+        }
+    }
+
+    // getLong은 NULL을 0으로 읽으므로 wasNull로 구분해 JSON null을 쓴다.
+    private static void writeNullableLongField(JsonGenerator generator, String fieldName, ResultSet rs, String columnLabel)
+            throws IOException, SQLException {
+        long value = rs.getLong(columnLabel);
+        if (rs.wasNull()) {
+            generator.writeNullField(fieldName);
+        } else {
+            generator.writeNumberField(fieldName, value);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package jamm.board.comment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jamm.board.comment.entity.CommentPath;
+import jamm.board.comment.repository.CommentRepositoryV2;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부모 path별 마지막 자식 번호를 캐시해서, 자식 path를 DB 조회 없이 원자적으로 발급한다.
+ * - 부모를 처음 만났을 때만 자손 중 가장 큰 path를 조회해서 카운터를 초기화한다.
+ * - 다른 인스턴스가 같은 부모에 자식을 만들면 path가 겹칠 수 있으므로,
+ *   저장에 실패하면 evict 해서 다음 시도가 DB 기준으로 다시 초기화하게 한다. (CommentServiceV2.create가 다시 시도한다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentPathAllocator {
+    private static final long MAX_PARENTS = 100_000L;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+
+    private final CommentRepositoryV2 commentRepository;
+    private final Cache<ParentKey, AtomicInteger> lastChildIndexes = Caffeine.newBuilder()
+            .maximumSize(MAX_PARENTS)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+
+    public CommentPath allocateChild(Long articleId, CommentPath parentCommentPath) {
+        AtomicInteger lastChildIndex = lastChildIndexes.get(
+                new ParentKey(articleId, parentCommentPath.getPath()),
+                key -> new AtomicInteger(parentCommentPath.findChildIndex(
+                        commentRepository.findDescendantsTopPath(
+                                articleId, parentCommentPath.toBytes(), parentCommentPath.toDescendantsUpperBound()
+                        ).map(CommentPath::fromBytes).orElse(null)
+                ))
+        );
+        return parentCommentPath.createChildCommentPath(lastChildIndex.incrementAndGet());
+    }
+
+    public void evict(Long articleId, CommentPath parentCommentPath) {
+        lastChildIndexes.invalidate(new ParentKey(articleId, parentCommentPath.getPath()));
+    }
+
+    @Value
+    private static class ParentKey {
+        Long articleId;
+        String parentPath;
+    }
+}
@@ -1,16 +1,26 @@
 package jamm.board.comment.service;
 
+import jamm.board.comment.entity.ArticleCommentCount;
 import jamm.board.comment.entity.Comment;
+import jamm.board.comment.repository.ArticleCommentCountRepository;
+import jamm.board.comment.repository.CommentBulkRepository;
 import jamm.board.comment.repository.CommentRepository;
 import jamm.board.comment.service.request.CommentCreateRequest;
+import jamm.board.comment.service.response.CommentInfiniteScrollResponse;
 import jamm.board.comment.service.response.CommentPageResponse;
 import jamm.board.comment.service.response.CommentResponse;
-import kuke.board.common.snowflake.Snowflake;
+import kuke.board.common.snowflake.IdSupplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static java.util.function.Predicate.not;
 
@@ -18,8 +28,13 @@ import static java.util.function.Predicate.not;
 @RequiredArgsConstructor
 public class CommentService {
 
-    private final Snowflake snowflake = new Snowflake();
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final IdSupplier idSupplier;
     private final CommentRepository commentRepository;
+    private final CommentBulkRepository commentBulkRepository;
+    private final ArticleCommentCountRepository articleCommentCountRepository;
+    private final RootCommentCache rootCommentCache;
 
     /**
      * 댓글 생성
@@ -28,31 +43,98 @@ public class CommentService {
     public CommentResponse create(CommentCreateRequest request) {
 
         //parent로 가져온 값이 존재하다면, 그 부모 댓글(parent)와 새로 생성할 댓글을 연결해줌
-        Comment parent = findParent(request);
-
-        Comment comment = commentRepository.save(
-                Comment.create(
-                        snowflake.nextId(),
-                        request.getContent(),
-                        parent == null ? null : parent.getParentCommentId(),
-                        request.getArticleId(),
-                        request.getWriterId()
-                )
-        );
+        Long parentCommentId = findParentCommentId(request);
+
+        Comment comment = commentRepository.save(createComment(request, parentCommentId));
+        articleCommentCountRepository.increase(request.getArticleId());
         return CommentResponse.from(comment);
 
     }
 
-    //부모 댓글 반환
-    private Comment findParent(CommentCreateRequest request) {
+    private Comment createComment(CommentCreateRequest request, Long parentCommentId) {
+        return Comment.create(
+                //대댓글이 부모 댓글보다 앞에 정렬되지 않도록 부모보다 큰 id를 발급
+                parentCommentId == null ? idSupplier.nextId() : idSupplier.nextIdAfter(parentCommentId),
+                request.getContent(),
+                parentCommentId,
+                request.getArticleId(),
+                request.getWriterId()
+        );
+    }
+
+    //부모 댓글 id 반환 - 최근에 확인한 루트 댓글이면 조회하지 않는다.
+    private Long findParentCommentId(CommentCreateRequest request) {
         Long parentCommentId = request.getParentCommentId();
         if (parentCommentId == null) {
             return null;
         }
-        return commentRepository.findById(parentCommentId)
+        if (rootCommentCache.contains(parentCommentId)) {
+            return parentCommentId;
+        }
+        Comment parent = commentRepository.findById(parentCommentId)
                 .filter(not(Comment::getDeleted)) // 삭제되지 않은 댓글이여야 함.
                 .filter(Comment::isRoot) // 루트 댓글(최상위 댓글)이여야 함.
                 .orElseThrow();
+        rootCommentCache.put(parent.getCommentId());
+        return parent.getCommentId();
+    }
+
+    /**
+     * 댓글 일괄 생성 - 부모 댓글은 IN 쿼리 한 번으로 검증하고, JDBC batch insert 한다.
+     * 하나라도 필수 값이 없거나 부모가 유효하지 않으면 전체가 실패한다.
+     */
+    @Transactional
+    public List<CommentResponse> createAll(List<CommentCreateRequest> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batch size must be <= " + MAX_BATCH_SIZE + ": " + requests.size());
+        }
+        validateRequiredFields(requests);
+        validateParents(requests);
+
+        List<Comment> comments = requests.stream()
+                .map(request -> createComment(request, request.getParentCommentId()))
+                .toList();
+        commentBulkRepository.insertAll(comments);
+        comments.stream()
+                .collect(Collectors.groupingBy(Comment::getArticleId, Collectors.counting()))
+                .forEach(articleCommentCountRepository::increase);
+
+        return comments.stream()
+                .map(CommentResponse::from)
+                .toList();
+    }
+
+    /**
+     * ID를 발급하기 전에 검사한다. 빠진 값이 있으면 batch insert 중에 NPE가 나서 전체가 500으로 실패한다.
+     */
+    private void validateRequiredFields(List<CommentCreateRequest> requests) {
+        for (int i = 0; i < requests.size(); i++) {
+            CommentCreateRequest request = requests.get(i);
+            if (request == null || request.getArticleId() == null || request.getWriterId() == null) {
+                throw new IllegalArgumentException("articleId and writerId are required: index=" + i);
+            }
+        }
+    }
+
+    private void validateParents(List<CommentCreateRequest> requests) {
+        Set<Long> parentCommentIds = requests.stream()
+                .map(CommentCreateRequest::getParentCommentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        parentCommentIds.removeAll(rootCommentCache.findAllPresent(parentCommentIds));
+        if (parentCommentIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> validParentCommentIds = commentRepository.findAllById(parentCommentIds).stream()
+                .filter(not(Comment::getDeleted))
+                .filter(Comment::isRoot)
+                .map(Comment::getCommentId)
+                .toList();
+        if (validParentCommentIds.size() != parentCommentIds.size()) {
+            throw new NoSuchElementException("invalid parent comment");
+        }
+        validParentCommentIds.forEach(rootCommentCache::put);
     }
 
     /**
@@ -65,40 +147,33 @@ public class CommentService {
     }
 
     /**
-     * 댓글 삭제
+     * 댓글 삭제 - 조회 1번 + 삭제/수정 최대 2번 + 댓글 수 감소
      */
     @Transactional
     public void delete(Long commentId) {
         commentRepository.findById(commentId)
                 .filter(not(Comment::getDeleted)) // 삭제되지 않은 댓글이여야 함.
                 .ifPresent(comment -> { //존재하고
-                    if(hasChildren(comment)) { //만약 자식 댓글이 있다면
-                        comment.delete(); //boolean값 deleted를 true로 바꿔줌 (soft delete)
+                    int deletedCount;
+                    if (comment.isRoot()) {
+                        rootCommentCache.invalidate(comment.getCommentId());
+                        //자식 댓글이 없으면 실제 삭제, 있으면 삭제되지 않으므로 boolean값 deleted를 true로 바꿔줌 (soft delete)
+                        deletedCount = commentRepository.deleteIfNoChildren(comment.getArticleId(), comment.getCommentId());
+                        if (deletedCount == 0) {
+                            comment.delete();
+                        }
                     } else {
-                        delete(comment); //실제 삭제
+                        //대댓글은 자식이 없으므로 실제 삭제 + 삭제 표시된 부모 댓글에 남은 자식이 없으면 함께 삭제
+                        deletedCount = commentRepository.deleteWithDeletedParent(
+                                comment.getArticleId(), comment.getCommentId(), comment.getParentCommentId()
+                        );
+                    }
+                    if (deletedCount > 0) {
+                        articleCommentCountRepository.decrease(comment.getArticleId(), (long) deletedCount);
                     }
                 });
     }
 
-    private boolean hasChildren(Comment comment) {
-        //getCommentId를 넘겨야 해당 comment의 하위 댓글이 있는지 확인할 수 있다!
-        //2인 이유 자신(comment) + 자식 1개
-        return commentRepository.countBy(comment.getArticleId(), comment.getCommentId(), 2L) == 2;
-    }
-
-    /**
-     * 댓글 삭제
-     */
-    private void delete(Comment comment) {
-        commentRepository.delete(comment); //부모댓글을 먼저 제거하고
-        if(!comment.isRoot()) { //대댓글일 경우
-            commentRepository.findById(comment.getParentCommentId()) //부모 댓글 조회
-                    .filter(Comment::getDeleted) //부모 댓글은 이미 삭제된 상태여야 함.
-                    .filter(not(this::hasChildren)) //부모 댓글은 자식 댓글을 가지고 있지 않아야 함
-                    .ifPresent(this::delete); //부모 댓글이 존재하다면 부모댓글도 삭제
-        }
-    }
-
     /**
      * 댓글 전체 조회 (2 depth 페이지 번호)
      */
@@ -107,15 +182,41 @@ public class CommentService {
                 commentRepository.findAll(articleId, (page - 1) * pageSize, pageSize).stream()
                         .map(CommentResponse::from)
                         .toList(),
-                commentRepository.count(articleId, PageLimitCalculator.calculatePageLimit(page, pageSize, 10L)) //한 페이지당 10개 댓글 가정
+                count(articleId, page, pageSize)
         );
     }
 
+    /**
+     * 페이지 번호 조회에서 사용하는 댓글 수 (이동 가능한 페이지까지만) - comment 테이블을 세지 않고 article_comment_count에서 읽는다.
+     */
+    public Long count(Long articleId, Long page, Long pageSize) {
+        Long commentCount = articleCommentCountRepository.findById(articleId)
+                .map(ArticleCommentCount::getCommentCount)
+                .orElse(0L);
+        return Math.min(commentCount, PageLimitCalculator.calculatePageLimit(page, pageSize, 10L));
+    }
+
+    /**
+     * 여러 게시글의 댓글 수 - 게시글 목록 화면용. PK IN 쿼리 한 번, 댓글이 없는 게시글은 0
+     */
+    public Map<Long, Long> counts(List<Long> articleIds) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        articleIds.forEach(articleId -> counts.put(articleId, 0L));
+        if (!articleIds.isEmpty()) {
+            articleCommentCountRepository.findAllById(articleIds)
+                    .forEach(count -> counts.put(count.getArticleId(), count.getCommentCount()));
+        }
+        return counts;
+    }
+
     /**
      * 댓글 전체 조회 (2 depth 무한 스크롤)
      */
     public List<CommentResponse> readAll(Long articleId, Long lastParentCommentId, Long lastCommentId, Long limit) {
-        List<Comment> comments = lastParentCommentId == null || lastCommentId == null ?
+        if ((lastParentCommentId == null) != (lastCommentId == null)) {
+            throw new IllegalArgumentException("lastParentCommentId and lastCommentId must be given together");
+        }
+        List<Comment> comments = lastParentCommentId == null ?
                 commentRepository.findAllInfiniteScroll(articleId, limit) :
                 commentRepository.findAllInfiniteScroll(articleId, lastParentCommentId, lastCommentId, limit);
         return comments.stream()
@@ -123,5 +224,38 @@ public class CommentService {
                 .toList();
     }
 
+    /**
+     * 댓글 전체 조회 (2 depth 무한 스크롤, 커서) - limit + 1개를 조회해서 다음 페이지 여부를 함께 내려준다.
+     */
+    public CommentInfiniteScrollResponse readAllInfiniteScroll(Long articleId, String cursor, Long limit) {
+        if (limit == null || limit < 1) {
+            throw new IllegalArgumentException("limit must be >= 1: " + limit);
+        }
+        List<Comment> comments;
+        if (cursor == null) {
+            comments = commentRepository.findAllInfiniteScroll(articleId, limit + 1);
+        } else {
+            CommentCursor lastCursor = CommentCursor.decode(cursor);
+            comments = commentRepository.findAllInfiniteScroll(
+                    articleId, lastCursor.getLastParentCommentId(), lastCursor.getLastCommentId(), limit + 1
+            );
+        }
+
+        boolean hasNext = comments.size() > limit;
+        List<Comment> page = hasNext ? comments.subList(0, limit.intValue()) : comments;
+        String nextCursor = hasNext ? toCursor(page.get(page.size() - 1)) : null;
+        return CommentInfiniteScrollResponse.of(
+                page.stream()
+                        .map(CommentResponse::from)
+                        .toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+
+    private String toCursor(Comment comment) {
+        return CommentCursor.of(comment.getParentCommentId(), comment.getCommentId()).encode();
+    }
+
 
 }
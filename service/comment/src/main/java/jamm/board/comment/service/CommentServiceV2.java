@@ -0,0 +1,163 @@
+package jamm.board.comment.service;
+
+import jamm.board.comment.entity.CommentPath;
+import jamm.board.comment.entity.CommentV2;
+import jamm.board.comment.repository.CommentRepositoryV2;
+import jamm.board.comment.service.request.CommentCreateRequestV2;
+import jamm.board.comment.service.response.CommentPageResponse;
+import jamm.board.comment.service.response.CommentResponse;
+import kuke.board.common.snowflake.IdSupplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static java.util.function.Predicate.not;
+
+/**
+ * 무한 depth 댓글 - path enumeration(comment_v2.path) 기반
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentServiceV2 {
+    private static final int MAX_CREATE_ATTEMPTS = 5;
+
+    private final IdSupplier idSupplier;
+    private final CommentRepositoryV2 commentRepository;
+    private final CommentPathAllocator commentPathAllocator;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 댓글 생성 - 부모별 자식 카운터로 다음 자식 path를 만든다.
+     * 다른 인스턴스가 같은 path를 먼저 저장했으면, 카운터를 DB 기준으로 다시 맞춰서 MAX_CREATE_ATTEMPTS번까지 다시 시도한다.
+     * 제약 조건 위반 후의 트랜잭션은 롤백만 할 수 있으므로 시도마다 트랜잭션을 새로 연다.
+     */
+    public CommentResponse create(CommentCreateRequestV2 request) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> createOnce(request));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_CREATE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private CommentResponse createOnce(CommentCreateRequestV2 request) {
+        CommentV2 parent = findParent(request);
+        CommentPath parentCommentPath = parent == null ? CommentPath.create("") : parent.getCommentPath();
+        try {
+            CommentV2 comment = commentRepository.saveAndFlush(
+                    CommentV2.create(
+                            idSupplier.nextId(),
+                            request.getContent(),
+                            request.getArticleId(),
+                            request.getWriterId(),
+                            commentPathAllocator.allocateChild(request.getArticleId(), parentCommentPath)
+                    )
+            );
+            return CommentResponse.from(comment);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 path를 먼저 사용 - 카운터를 버려서 다음 시도가 DB 기준으로 다시 맞추게 한다.
+            commentPathAllocator.evict(request.getArticleId(), parentCommentPath);
+            throw e;
+        }
+    }
+
+    //부모 댓글 반환 - 삭제되지 않은 댓글이여야 함.
+    private CommentV2 findParent(CommentCreateRequestV2 request) {
+        String parentPath = request.getParentPath();
+        if (parentPath == null) {
+            return null;
+        }
+        return commentRepository.findByPath(request.getArticleId(), CommentPath.validate(parentPath))
+                .filter(not(CommentV2::getDeleted))
+                .orElseThrow();
+    }
+
+    private boolean hasDescendants(Long articleId, CommentPath commentPath) {
+        return commentRepository.findDescendantsTopPath(
+                articleId, commentPath.toBytes(), commentPath.toDescendantsUpperBound()
+        ).isPresent();
+    }
+
+    /**
+     * 댓글 조회
+     */
+    public CommentResponse read(Long commentId) {
+        return CommentResponse.from(
+                commentRepository.findById(commentId).orElseThrow()
+        );
+    }
+
+    /**
+     * 댓글 삭제 - 자손이 있으면 삭제 표시만 하고, 없으면 삭제 후 삭제 표시된 조상을 차례로 정리한다.
+     */
+    @Transactional
+    public void delete(Long commentId) {
+        commentRepository.findById(commentId)
+                .filter(not(CommentV2::getDeleted))
+                .ifPresent(comment -> {
+                    if (hasChildren(comment)) {
+                        comment.setDeleted();
+                    } else {
+                        delete(comment);
+                    }
+                });
+    }
+
+    private boolean hasChildren(CommentV2 comment) {
+        return hasDescendants(comment.getArticleId(), comment.getCommentPath());
+    }
+
+    private void delete(CommentV2 comment) {
+        commentRepository.delete(comment);
+        if (!comment.isRoot()) {
+            commentRepository.findByPath(comment.getArticleId(), comment.getCommentPath().getParentPath())
+                    .filter(CommentV2::getDeleted)
+                    .filter(not(this::hasChildren))
+                    .ifPresent(this::delete);
+        }
+    }
+
+    /**
+     * 댓글 전체 조회 (페이지 번호, path 순서)
+     */
+    public CommentPageResponse readAll(Long articleId, Long page, Long pageSize) {
+        return CommentPageResponse.of(
+                commentRepository.findAll(articleId, (page - 1) * pageSize, pageSize).stream()
+                        .map(CommentResponse::from)
+                        .toList(),
+                commentRepository.count(articleId, PageLimitCalculator.calculatePageLimit(page, pageSize, 10L))
+        );
+    }
+
+    /**
+     * 댓글 전체 조회 (무한 스크롤) - lastPath 다음부터
+     */
+    public List<CommentResponse> readAllInfiniteScroll(Long articleId, String lastPath, Long pageSize) {
+        return commentRepository.findAllInfiniteScroll(articleId, toBytes(lastPath), pageSize).stream()
+                .map(CommentResponse::from)
+                .toList();
+    }
+
+    /**
+     * 서브 트리 조회 (무한 스크롤) - path 댓글과 그 자손을 lastPath 다음부터
+     */
+    public List<CommentResponse> readAllDescendants(Long articleId, String path, String lastPath, Long pageSize) {
+        CommentPath commentPath = CommentPath.create(CommentPath.validate(path));
+        return commentRepository.findAllDescendants(
+                        articleId, commentPath.toBytes(), commentPath.toDescendantsUpperBound(), toBytes(lastPath), pageSize
+                ).stream()
+                .map(CommentResponse::from)
+                .toList();
+    }
+
+    private byte[] toBytes(String lastPath) {
+        return CommentPath.toBytes(lastPath == null ? "" : lastPath);
+    }
+}
@@ -0,0 +1,47 @@
+package jamm.board.comment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 답글을 달 수 있는 루트 댓글(삭제되지 않은 1 depth 댓글) id 캐시 - 한 루트에 답글이 몰릴 때 부모 조회를 생략한다.
+ * - 이 인스턴스에서 루트가 삭제되면 커밋 후에 invalidate 한다.
+ * - 다른 인스턴스에서 삭제된 루트는 TTL 동안 답글이 허용될 수 있어서 TTL을 짧게 둔다.
+ */
+@Component
+public class RootCommentCache {
+    private static final long MAX_ROOTS = 100_000L;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofSeconds(5);
+
+    private final Cache<Long, Boolean> validRootCommentIds = Caffeine.newBuilder()
+            .maximumSize(MAX_ROOTS)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .build();
+
+    public boolean contains(Long rootCommentId) {
+        return validRootCommentIds.getIfPresent(rootCommentId) != null;
+    }
+
+    /**
+     * rootCommentIds 중 캐시에 있는 id
+     */
+    public Set<Long> findAllPresent(Collection<Long> rootCommentIds) {
+        return validRootCommentIds.getAllPresent(rootCommentIds).keySet();
+    }
+
+    public void put(Long rootCommentId) {
+        validRootCommentIds.put(rootCommentId, Boolean.TRUE);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 지운다. 커밋 전에 지우면 다른 요청이 아직 삭제되지 않은 루트를 다시 캐시할 수 있다.
+     */
+    public void invalidate(Long rootCommentId) {
+        AfterCommit.run(() -> validRootCommentIds.invalidate(rootCommentId));
+    }
+}
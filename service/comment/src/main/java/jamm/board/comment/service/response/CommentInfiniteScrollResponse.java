@@ -0,0 +1,20 @@
+package jamm.board.comment.service.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentInfiniteScrollResponse {
+    private List<CommentResponse> comments;
+    private String nextCursor;
+    private Boolean hasNext;
+
+    public static CommentInfiniteScrollResponse of(List<CommentResponse> comments, String nextCursor, Boolean hasNext) {
+        CommentInfiniteScrollResponse response = new CommentInfiniteScrollResponse();
+        response.comments = comments;
+        response.nextCursor = nextCursor;
+        response.hasNext = hasNext;
+        return response;
+    }
+}
@@ -1,7 +1,9 @@
 package jamm.board.comment.service.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.persistence.Id;
 import jamm.board.comment.entity.Comment;
+import jamm.board.comment.entity.CommentV2;
 import lombok.Getter;
 import lombok.ToString;
 
@@ -18,6 +20,9 @@ public class CommentResponse {
     private Long writerId;
     private Boolean deleted;
     private LocalDateTime createdAt;
+    // v2(comment_v2)에만 있는 값 - v1 응답에는 필드 자체를 내보내지 않는다.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String path;
 
     public static CommentResponse from(Comment comment) {
         CommentResponse response = new CommentResponse();
@@ -31,4 +36,15 @@ public class CommentResponse {
         return response;
     }
 
+    public static CommentResponse from(CommentV2 comment) {
+        CommentResponse response = new CommentResponse();
+        response.commentId = comment.getCommentId();
+        response.content = comment.getContent();
+        response.path = comment.getCommentPath().getPath();
+        response.articleId = comment.getArticleId();
+        response.writerId = comment.getWriterId();
+        response.deleted = comment.getDeleted();
+        response.createdAt = comment.getCreatedAt();
+        return response;
+    }
 }
@@ -0,0 +1,6 @@
+-- article_comment_count 채우기 : 페이지 번호 조회의 댓글 수를 이 테이블에서 읽으므로,
+-- 테이블이 생기기 전부터 있던 댓글도 세어 둔다. 댓글 수를 쓰는 버전을 배포하기 전에 한 번 실행한다.
+
+INSERT INTO article_comment_count (article_id, comment_count)
+SELECT article_id, COUNT(*) FROM comment GROUP BY article_id
+ON DUPLICATE KEY UPDATE comment_count = VALUES(comment_count);
@@ -0,0 +1,40 @@
+-- comment_v2.path : VARCHAR(25) utf8mb4_bin -> VARBINARY(20)
+-- CommentPathConverter가 쓰는 형식(62진수 5자리 chunk -> 4바이트 big-endian)으로 기존 path를 옮긴다.
+-- 바이너리 path를 쓰는 버전을 배포하기 전에 mysql 클라이언트로 한 번 실행한다. (되돌리기: comment_v2_path_varchar.sql)
+-- binlog가 켜져 있으면 함수 생성에 log_bin_trust_function_creators = 1 이 필요하다.
+
+DELIMITER //
+
+CREATE FUNCTION comment_path_to_bin(p VARCHAR(25)) RETURNS VARBINARY(20) DETERMINISTIC
+BEGIN
+    DECLARE path_chars VARCHAR(62) DEFAULT '0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz';
+    DECLARE result VARBINARY(20) DEFAULT '';
+    DECLARE chunk_value BIGINT;
+    DECLARE i INT DEFAULT 0;
+    DECLARE j INT;
+    WHILE i < CHAR_LENGTH(p) DIV 5 DO
+        SET chunk_value = 0;
+        SET j = 1;
+        WHILE j <= 5 DO
+            SET chunk_value = chunk_value * 62 + LOCATE(BINARY SUBSTRING(p, i * 5 + j, 1), BINARY path_chars) - 1;
+            SET j = j + 1;
+        END WHILE;
+        SET result = CONCAT(result, UNHEX(LPAD(HEX(chunk_value), 8, '0')));
+        SET i = i + 1;
+    END WHILE;
+    RETURN result;
+END //
+
+DELIMITER ;
+
+ALTER TABLE comment_v2 ADD COLUMN path_bin VARBINARY(20) NULL;
+UPDATE comment_v2 SET path_bin = comment_path_to_bin(path);
+
+ALTER TABLE comment_v2
+    DROP INDEX idx_article_id_path,
+    DROP COLUMN path,
+    RENAME COLUMN path_bin TO path;
+ALTER TABLE comment_v2 MODIFY COLUMN path VARBINARY(20) NOT NULL;
+CREATE UNIQUE INDEX idx_article_id_path ON comment_v2(article_id ASC, path ASC);
+
+DROP FUNCTION comment_path_to_bin;
@@ -0,0 +1,41 @@
+-- comment_v2_path_varbinary.sql 되돌리기 : VARBINARY(20) -> VARCHAR(25) utf8mb4_bin
+-- 문자열 path를 쓰는 버전으로 되돌리기 전에 실행한다.
+
+DELIMITER //
+
+CREATE FUNCTION comment_path_to_varchar(b VARBINARY(20)) RETURNS VARCHAR(25) DETERMINISTIC
+BEGIN
+    DECLARE path_chars VARCHAR(62) DEFAULT '0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz';
+    DECLARE result VARCHAR(25) DEFAULT '';
+    DECLARE chunk_value BIGINT;
+    DECLARE chunk VARCHAR(5);
+    DECLARE i INT DEFAULT 0;
+    DECLARE j INT;
+    WHILE i < LENGTH(b) DIV 4 DO
+        SET chunk_value = CONV(HEX(SUBSTRING(b, i * 4 + 1, 4)), 16, 10);
+        SET chunk = '';
+        SET j = 0;
+        WHILE j < 5 DO
+            SET chunk = CONCAT(SUBSTRING(path_chars, chunk_value MOD 62 + 1, 1), chunk);
+            SET chunk_value = chunk_value DIV 62;
+            SET j = j + 1;
+        END WHILE;
+        SET result = CONCAT(result, chunk);
+        SET i = i + 1;
+    END WHILE;
+    RETURN result;
+END //
+
+DELIMITER ;
+
+ALTER TABLE comment_v2 ADD COLUMN path_varchar VARCHAR(25) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NULL;
+UPDATE comment_v2 SET path_varchar = comment_path_to_varchar(path);
+
+ALTER TABLE comment_v2
+    DROP INDEX idx_article_id_path,
+    DROP COLUMN path,
+    RENAME COLUMN path_varchar TO path;
+ALTER TABLE comment_v2 MODIFY COLUMN path VARCHAR(25) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL;
+CREATE UNIQUE INDEX idx_article_id_path ON comment_v2(article_id ASC, path ASC);
+
+DROP FUNCTION comment_path_to_varchar;
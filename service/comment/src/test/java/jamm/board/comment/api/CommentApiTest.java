@@ -1,5 +1,6 @@
 package jamm.board.comment.api;
 
+import jamm.board.comment.service.response.CommentInfiniteScrollResponse;
 import jamm.board.comment.service.response.CommentPageResponse;
 import jamm.board.comment.service.response.CommentResponse;
 import lombok.AllArgsConstructor;
@@ -8,7 +9,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.web.client.RestClient;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class CommentApiTest {
 
@@ -66,6 +76,17 @@ public class CommentApiTest {
         }
     }
 
+    @Test
+    void readAllStream() {
+        CommentPageResponse response = restClient.get()
+                .uri("/v1/comments/stream?articleId=1&page=1&pageSize=10000")
+                .retrieve()
+                .body(CommentPageResponse.class);
+
+        System.out.println("response.getCommentCount = " + response.getCommentCount());
+        System.out.println("response.getComments().size() = " + response.getComments().size());
+    }
+
     @Test
     void readAllInfiniteScroll() {
         List<CommentResponse> responses1 = restClient.get()
@@ -103,6 +124,29 @@ public class CommentApiTest {
 
 
 
+    @Test
+    void readAllInfiniteScrollCursor() {
+        String cursor = null;
+        int pageCount = 0;
+        while (true) {
+            Optional<String> currentCursor = Optional.ofNullable(cursor);
+            CommentInfiniteScrollResponse response = restClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/v1/comments/infinite-scroll/cursor")
+                            .queryParam("articleId", 1L)
+                            .queryParamIfPresent("cursor", currentCursor)
+                            .queryParam("pageSize", 5L)
+                            .build())
+                    .retrieve()
+                    .body(CommentInfiniteScrollResponse.class);
+            pageCount++;
+            System.out.println("page = " + pageCount + ", size = " + response.getComments().size() + ", nextCursor = " + response.getNextCursor());
+            if (!response.getHasNext() || pageCount == 5) {
+                break;
+            }
+            cursor = response.getNextCursor();
+        }
+    }
+
     @Test
     void delete() {
         restClient.delete()
@@ -111,6 +155,129 @@ public class CommentApiTest {
     }
 
 
+    @Test
+    void deletePerformance() {
+        // given - 대댓글이 많은 게시글
+        Long articleId = 2L;
+        int rootCount = 100;
+        int childCount = 20;
+        List<Long> commentIds = new ArrayList<>();
+        for (int i = 0; i < rootCount; i++) {
+            CommentResponse root = createComment(new CommentCreateRequest(articleId, "root", null, 1L));
+            commentIds.add(root.getCommentId());
+            for (int j = 0; j < childCount; j++) {
+                commentIds.add(createComment(new CommentCreateRequest(articleId, "child", root.getCommentId(), 1L)).getCommentId());
+            }
+        }
+
+        // when - 부모를 먼저 지워서 soft delete 후 마지막 자식과 함께 정리되는 경로까지 포함
+        long start = System.nanoTime();
+        for (Long commentId : commentIds) {
+            restClient.delete()
+                    .uri("/v1/comments/{commentId}", commentId)
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+        long end = System.nanoTime();
+
+        System.out.println("deletes/sec = %s".formatted(commentIds.size() * 1_000_000_000L / (end - start)));
+    }
+
+    @Test
+    void counts() {
+        Map<Long, Long> response = restClient.get()
+                .uri("/v1/comments/counts?articleIds=1,2,3")
+                .retrieve()
+                .body(new ParameterizedTypeReference<Map<Long, Long>>() {
+                });
+
+        System.out.println("response = " + response);
+    }
+
+    @Test
+    void countConcurrencyTest() throws InterruptedException {
+        // 같은 게시글에 동시에 생성/삭제 - 댓글 수 갱신이 유실되지 않아야 한다.
+        Long articleId = System.nanoTime();
+        int threadCount = 10;
+        int createCount = 1000;
+        int deleteCount = 300;
+        List<Long> commentIds = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch createLatch = new CountDownLatch(createCount);
+        long start = System.nanoTime();
+        for (int i = 0; i < createCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    commentIds.add(createComment(new CommentCreateRequest(articleId, "content", null, 1L)).getCommentId());
+                } finally {
+                    createLatch.countDown();
+                }
+            });
+        }
+        createLatch.await();
+
+        CountDownLatch deleteLatch = new CountDownLatch(deleteCount);
+        for (int i = 0; i < deleteCount; i++) {
+            Long commentId = commentIds.get(i);
+            executorService.execute(() -> {
+                try {
+                    restClient.delete()
+                            .uri("/v1/comments/{commentId}", commentId)
+                            .retrieve()
+                            .toBodilessEntity();
+                } finally {
+                    deleteLatch.countDown();
+                }
+            });
+        }
+        deleteLatch.await();
+        long end = System.nanoTime();
+        executorService.shutdown();
+
+        Map<Long, Long> counts = restClient.get()
+                .uri("/v1/comments/counts?articleIds={articleId}", articleId)
+                .retrieve()
+                .body(new ParameterizedTypeReference<Map<Long, Long>>() {
+                });
+
+        System.out.println("requests/sec = %s".formatted((createCount + deleteCount) * 1_000_000_000L / (end - start)));
+        System.out.println("count = %s, expected = %s".formatted(counts.get(articleId), createCount - deleteCount));
+        assertThat(counts.get(articleId)).isEqualTo(createCount - deleteCount);
+    }
+
+    @Test
+    void createThroughputTest() {
+        // 한 루트 댓글에 답글이 몰리는 상황 - 단건 생성(루트 캐시) vs 일괄 생성
+        Long articleId = 3L;
+        int count = 2000;
+        int batchSize = 100;
+        Long rootCommentId = createComment(new CommentCreateRequest(articleId, "root", null, 1L)).getCommentId();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            createComment(new CommentCreateRequest(articleId, "reply", rootCommentId, 1L));
+        }
+        long singleTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < count; i += batchSize) {
+            List<CommentCreateRequest> requests = new ArrayList<>();
+            for (int j = 0; j < batchSize; j++) {
+                requests.add(new CommentCreateRequest(articleId, "reply", rootCommentId, 1L));
+            }
+            restClient.post()
+                    .uri("/v1/comments/batch")
+                    .body(requests)
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+        long batchTime = System.nanoTime() - start;
+
+        System.out.println("single creates/sec = %s".formatted(count * 1_000_000_000L / singleTime));
+        System.out.println("batch creates/sec = %s".formatted(count * 1_000_000_000L / batchTime));
+    }
+
     @Getter
     @AllArgsConstructor
     public static class CommentCreateRequest {
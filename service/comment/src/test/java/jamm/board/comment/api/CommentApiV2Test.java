@@ -0,0 +1,146 @@
+package jamm.board.comment.api;
+
+import jamm.board.comment.service.response.CommentPageResponse;
+import jamm.board.comment.service.response.CommentResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+public class CommentApiV2Test {
+
+    RestClient restClient = RestClient.create("http://localhost:9001");
+
+    @Test
+    void create() {
+        CommentResponse response1 = create(new CommentCreateRequestV2(1L, "my comment1", null, 1L));
+        CommentResponse response2 = create(new CommentCreateRequestV2(1L, "my comment2", response1.getPath(), 1L));
+        CommentResponse response3 = create(new CommentCreateRequestV2(1L, "my comment3", response2.getPath(), 1L));
+
+        System.out.println("response1.getPath() = " + response1.getPath());
+        System.out.println("response2.getPath() = " + response2.getPath());
+        System.out.println("response3.getPath() = " + response3.getPath());
+    }
+
+    CommentResponse create(CommentCreateRequestV2 request) {
+        return restClient.post()
+                .uri("/v2/comments")
+                .body(request)
+                .retrieve()
+                .body(CommentResponse.class);
+    }
+
+    @Test
+    void readAll() {
+        CommentPageResponse response = restClient.get()
+                .uri("/v2/comments?articleId=1&page=1&pageSize=10")
+                .retrieve()
+                .body(CommentPageResponse.class);
+
+        System.out.println("response.getCommentCount() = " + response.getCommentCount());
+        for (CommentResponse comment : response.getComments()) {
+            System.out.println("comment.getPath() = " + comment.getPath());
+        }
+    }
+
+    @Test
+    void readAllInfiniteScroll() {
+        List<CommentResponse> responses1 = readAllInfiniteScroll(null);
+        System.out.println("firstPage");
+        for (CommentResponse comment : responses1) {
+            System.out.println("comment.getPath() = " + comment.getPath());
+        }
+
+        List<CommentResponse> responses2 = readAllInfiniteScroll(responses1.getLast().getPath());
+        System.out.println("secondPage");
+        for (CommentResponse comment : responses2) {
+            System.out.println("comment.getPath() = " + comment.getPath());
+        }
+    }
+
+    List<CommentResponse> readAllInfiniteScroll(String lastPath) {
+        return restClient.get()
+                .uri(lastPath == null ?
+                        "/v2/comments/infinite-scroll?articleId=1&pageSize=5" :
+                        "/v2/comments/infinite-scroll?articleId=1&pageSize=5&lastPath=%s".formatted(lastPath))
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<CommentResponse>>() {
+                });
+    }
+
+    @Test
+    void readAllDescendants() {
+        CommentResponse root = create(new CommentCreateRequestV2(1L, "root", null, 1L));
+        CommentResponse child = create(new CommentCreateRequestV2(1L, "child", root.getPath(), 1L));
+        create(new CommentCreateRequestV2(1L, "grandchild", child.getPath(), 1L));
+
+        List<CommentResponse> responses = restClient.get()
+                .uri("/v2/comments/descendants?articleId=1&path=%s&pageSize=10".formatted(root.getPath()))
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<CommentResponse>>() {
+                });
+
+        for (CommentResponse comment : responses) {
+            System.out.println("comment.getPath() = " + comment.getPath());
+        }
+    }
+
+    /**
+     * 2 depth(v1)와 path 기반(v2) 무한 스크롤을 같은 페이지 수만큼 넘겨보며 비교
+     */
+    @Test
+    void readAllInfiniteScrollPerformance() {
+        int pageCount = 100;
+
+        long start = System.nanoTime();
+        Long lastParentCommentId = null;
+        Long lastCommentId = null;
+        for (int i = 0; i < pageCount; i++) {
+            List<CommentResponse> responses = restClient.get()
+                    .uri(lastCommentId == null ?
+                            "/v1/comments/infinite-scroll?articleId=1&pageSize=30" :
+                            "/v1/comments/infinite-scroll?articleId=1&pageSize=30&lastParentCommentId=%s&lastCommentId=%s"
+                                    .formatted(lastParentCommentId, lastCommentId))
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<List<CommentResponse>>() {
+                    });
+            if (responses.isEmpty()) {
+                break;
+            }
+            lastParentCommentId = responses.getLast().getParentCommentId();
+            lastCommentId = responses.getLast().getCommentId();
+        }
+        long v1 = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        String lastPath = null;
+        for (int i = 0; i < pageCount; i++) {
+            List<CommentResponse> responses = restClient.get()
+                    .uri(lastPath == null ?
+                            "/v2/comments/infinite-scroll?articleId=1&pageSize=30" :
+                            "/v2/comments/infinite-scroll?articleId=1&pageSize=30&lastPath=%s".formatted(lastPath))
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<List<CommentResponse>>() {
+                    });
+            if (responses.isEmpty()) {
+                break;
+            }
+            lastPath = responses.getLast().getPath();
+        }
+        long v2 = System.nanoTime() - start;
+
+        System.out.println("v1 = %s ms, v2 = %s ms".formatted(v1 / 1_000_000, v2 / 1_000_000));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CommentCreateRequestV2 {
+        private Long articleId;
+        private String content;
+        private String parentPath;
+        private Long writerId;
+    }
+}
@@ -2,6 +2,11 @@ package jamm.board.comment.entity;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -51,4 +56,132 @@ class CommentPathTest {
         assertThatThrownBy(() -> commentPath.createChildCommentPath("zzzzz")
         ).isInstanceOf(IllegalStateException.class);
     }
+
+    @Test
+    void createChildCommentPathByIndexTest() {
+        assertThat(CommentPath.create("").createChildCommentPath(0).getPath()).isEqualTo("00000");
+        assertThat(CommentPath.create("0000z").createChildCommentPath(62).getPath()).isEqualTo("0000z00010");
+        assertThat(CommentPath.create("0000z").createChildCommentPath(CommentPath.MAX_CHUNK_VALUE).getPath())
+                .isEqualTo("0000zzzzzz");
+        assertThatThrownBy(() -> CommentPath.create("").createChildCommentPath(CommentPath.MAX_CHUNK_VALUE + 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    //자손 중 가장 큰 path로부터 마지막 자식 번호를 구하고, 다음 번호로 만든 path가 문자열 방식과 같은지 확인
+    @Test
+    void findChildIndexTest() {
+        CommentPath commentPath = CommentPath.create("0000z");
+        assertThat(commentPath.findChildIndex(null)).isEqualTo(-1);
+
+        String descendantsTopPath = "0000zabcdzzzzzzzzzzz";
+        int childIndex = commentPath.findChildIndex(descendantsTopPath);
+        assertThat(commentPath.createChildCommentPath(childIndex + 1).getPath())
+                .isEqualTo(commentPath.createChildCommentPath(descendantsTopPath).getPath());
+    }
+
+    @Test
+    void createChildCommentPathPerformanceTest() {
+        CommentPath commentPath = CommentPath.create("0000z");
+        int count = 1_000_000;
+
+        long start = System.nanoTime();
+        String descendantsTopPath = null;
+        for (int i = 0; i < count; i++) {
+            descendantsTopPath = commentPath.createChildCommentPath(descendantsTopPath).getPath();
+        }
+        long stringTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        String last = null;
+        for (int i = 0; i < count; i++) {
+            last = commentPath.createChildCommentPath(i).getPath();
+        }
+        long indexTime = System.nanoTime() - start;
+
+        assertThat(last).isEqualTo(descendantsTopPath);
+        System.out.println("string = " + stringTime / count + " ns/op, index = " + indexTime / count + " ns/op");
+    }
+
+    @Test
+    void bytesRoundTripTest() {
+        for (String path : List.of("", "00000", "0000z", "zzzzz", "0000zabcdzzzzzzzzzzz", "zzzzz".repeat(5))) {
+            byte[] bytes = CommentPath.toBytes(path);
+            assertThat(bytes).hasSize(path.length() / 5 * CommentPath.CHUNK_BYTES);
+            assertThat(CommentPath.fromBytes(bytes)).isEqualTo(path);
+        }
+    }
+
+    //바이트 순서(unsigned)가 path 문자열 순서와 같아야 binary 인덱스에서 트리 순서가 유지된다.
+    @Test
+    void bytesOrderTest() {
+        Random random = new Random(0);
+        String charset = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            StringBuilder path = new StringBuilder();
+            int length = (random.nextInt(5) + 1) * 5;
+            for (int j = 0; j < length; j++) {
+                path.append(charset.charAt(random.nextInt(charset.length())));
+            }
+            paths.add(path.toString());
+        }
+
+        List<String> byString = paths.stream().sorted().toList();
+        List<String> byBytes = paths.stream()
+                .map(CommentPath::toBytes)
+                .sorted(Arrays::compareUnsigned)
+                .map(CommentPath::fromBytes)
+                .toList();
+
+        assertThat(byBytes).isEqualTo(byString);
+    }
+
+    @Test
+    void descendantsRangeTest() {
+        CommentPath commentPath = CommentPath.create("0000z");
+        byte[] from = commentPath.toBytes();
+        byte[] to = commentPath.toDescendantsUpperBound();
+
+        for (String descendant : List.of("0000z00000", "0000zzzzzz", "0000zabcdzzzzzzzzzzz")) {
+            byte[] bytes = CommentPath.toBytes(descendant);
+            assertThat(Arrays.compareUnsigned(bytes, from)).isPositive();
+            assertThat(Arrays.compareUnsigned(bytes, to)).isNegative();
+        }
+        for (String other : List.of("0000y", "0000yzzzzz", "00010", "0001000000")) {
+            byte[] bytes = CommentPath.toBytes(other);
+            assertThat(Arrays.compareUnsigned(bytes, from) > 0 && Arrays.compareUnsigned(bytes, to) < 0).isFalse();
+        }
+    }
+
+    @Test
+    void fromBytesInvalidLengthTest() {
+        assertThatThrownBy(() -> CommentPath.fromBytes(new byte[3]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    //클라이언트가 보낸 path 검사
+    @Test
+    void validateTest() {
+        assertThat(CommentPath.validate("")).isEmpty();
+        assertThat(CommentPath.validate("0000zabcdZ")).isEqualTo("0000zabcdZ");
+
+        // 길이가 5의 배수가 아님
+        assertThatThrownBy(() -> CommentPath.validate("0000")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CommentPath.validate("000000")).isInstanceOf(IllegalArgumentException.class);
+        // depth > 5
+        assertThatThrownBy(() -> CommentPath.validate("00000".repeat(6))).isInstanceOf(IllegalArgumentException.class);
+        // ASCII가 아닌 문자 - 검사하지 않으면 ArrayIndexOutOfBoundsException
+        assertThatThrownBy(() -> CommentPath.validate("0000가")).isInstanceOf(IllegalArgumentException.class);
+        // CHARSET 밖의 ASCII 문자 - 검사하지 않으면 0으로 읽힌다.
+        assertThatThrownBy(() -> CommentPath.validate("0000-")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CommentPath.validate(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void toBytesInvalidPathTest() {
+        assertThatThrownBy(() -> CommentPath.toBytes("0000-")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CommentPath.toBytes("0000a0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CommentPathConverter().convertToDatabaseColumn("0000\u00e9"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
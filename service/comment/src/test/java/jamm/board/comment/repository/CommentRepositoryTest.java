@@ -0,0 +1,82 @@
+package jamm.board.comment.repository;
+
+import jakarta.persistence.EntityManager;
+import jamm.board.comment.entity.Comment;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 DB(H2)에서 실행 - 자식이 10,000개인 부모에서도 자식 존재 여부 확인이 첫 자식에서 멈추는지 확인
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class CommentRepositoryTest {
+
+    static final Long ARTICLE_ID = 1L;
+    static final Long PARENT_COMMENT_ID = 1L;
+    static final Long NO_CHILDREN_COMMENT_ID = 2L;
+    static final int CHILD_COUNT = 10_000;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        List<Comment> comments = new ArrayList<>();
+        comments.add(Comment.create(PARENT_COMMENT_ID, "parent", null, ARTICLE_ID, 1L));
+        comments.add(Comment.create(NO_CHILDREN_COMMENT_ID, "no children", null, ARTICLE_ID, 1L));
+        for (long i = 0; i < CHILD_COUNT; i++) {
+            comments.add(Comment.create(100L + i, "child", PARENT_COMMENT_ID, ARTICLE_ID, 1L));
+        }
+        commentRepository.saveAll(comments);
+        commentRepository.flush();
+    }
+
+    @Test
+    void countByTest() {
+        assertThat(commentRepository.countBy(ARTICLE_ID, PARENT_COMMENT_ID, 2L)).isEqualTo(2L);
+        assertThat(commentRepository.countBy(ARTICLE_ID, PARENT_COMMENT_ID, 100_000L)).isEqualTo(CHILD_COUNT + 1L);
+        assertThat(commentRepository.countBy(ARTICLE_ID, NO_CHILDREN_COMMENT_ID, 2L)).isEqualTo(1L);
+    }
+
+    @Test
+    void deleteIfNoChildrenTest() {
+        assertThat(commentRepository.deleteIfNoChildren(ARTICLE_ID, PARENT_COMMENT_ID)).isZero();
+        assertThat(commentRepository.deleteIfNoChildren(ARTICLE_ID, NO_CHILDREN_COMMENT_ID)).isEqualTo(1);
+    }
+
+    /**
+     * deleteIfNoChildren의 자식 확인(CHILD_PROBE) - 실행 계획에서 인덱스를 타고, 자식 수와 상관없이 몇 row만 읽고 멈추는지 확인
+     */
+    @Test
+    void childProbeStopsAtFirstChildTest() {
+        String childProbe = CommentRepository.CHILD_PROBE
+                .replace(":articleId", String.valueOf(ARTICLE_ID))
+                .replace(":commentId", String.valueOf(PARENT_COMMENT_ID));
+        String plan = (String) entityManager.createNativeQuery("explain analyze " + childProbe).getSingleResult();
+        log.info("plan = {}", plan);
+
+        assertThat(plan).containsIgnoringCase("idx_article_id_parent_comment_id_comment_id");
+        Matcher scanCount = Pattern.compile("scanCount: (\\d+)").matcher(plan);
+        assertThat(scanCount.find()).isTrue();
+        // 부모 자신(comment_id = 1)과 첫 자식만 읽는다 - 자식 수(CHILD_COUNT)와 무관
+        assertThat(Long.parseLong(scanCount.group(1))).isLessThan(10L);
+    }
+}
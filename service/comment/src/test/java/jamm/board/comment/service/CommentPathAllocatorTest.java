@@ -0,0 +1,172 @@
+package jamm.board.comment.service;
+
+import jamm.board.comment.entity.CommentPath;
+import jamm.board.comment.entity.CommentV2;
+import jamm.board.comment.repository.CommentRepositoryV2;
+import jamm.board.comment.service.request.CommentCreateRequestV2;
+import kuke.board.common.snowflake.IdSupplier;
+import kuke.board.common.snowflake.Snowflake;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentPathAllocatorTest {
+
+    @InjectMocks
+    CommentPathAllocator commentPathAllocator;
+
+    @Mock
+    CommentRepositoryV2 commentRepository;
+
+    @Test
+    @DisplayName("한 부모에 답글이 동시에 몰려도 서로 다른 path를 발급하고, DB는 한 번만 조회한다.")
+    void allocateChildConcurrentlyTest() throws InterruptedException {
+        //given
+        Long articleId = 1L;
+        CommentPath parentCommentPath = CommentPath.create("00000");
+        given(commentRepository.findDescendantsTopPath(
+                articleId, parentCommentPath.toBytes(), parentCommentPath.toDescendantsUpperBound()
+        )).willReturn(Optional.of(CommentPath.toBytes("0000000009")));
+
+        int threadCount = 10;
+        int requestCount = 10_000;
+        Set<String> paths = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+
+        //when
+        long start = System.nanoTime();
+        for (int i = 0; i < requestCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    paths.add(commentPathAllocator.allocateChild(articleId, parentCommentPath).getPath());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long time = System.nanoTime() - start;
+        executorService.shutdown();
+        System.out.println("requests = " + requestCount + ", time = " + time / 1_000_000 + "ms");
+
+        //then
+        assertThat(paths).hasSize(requestCount);
+        assertThat(paths).doesNotContain("0000000009");
+        verify(commentRepository, times(1)).findDescendantsTopPath(anyLong(), any(byte[].class), any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("인스턴스마다 카운터가 따로 있어 path가 겹쳐도, 다시 맞춰서 재시도하므로 답글이 유실되지 않는다.")
+    void allocateChildAcrossInstancesTest() throws InterruptedException {
+        //given - 같은 DB(path unique)를 쓰는 인스턴스 2개
+        Long articleId = 1L;
+        CommentPath parentCommentPath = CommentPath.create("00000");
+        NavigableSet<String> storedPaths = new ConcurrentSkipListSet<>();
+        given(commentRepository.findByPath(articleId, parentCommentPath.getPath()))
+                .willReturn(Optional.of(CommentV2.create(1L, "parent", articleId, 1L, parentCommentPath)));
+        given(commentRepository.findDescendantsTopPath(eq(articleId), any(byte[].class), any(byte[].class)))
+                .willAnswer(invocation -> {
+                    String parentPath = CommentPath.fromBytes(invocation.getArgument(1));
+                    String topPath = storedPaths.lower(parentPath + "{"); // '{'는 CHARSET의 어떤 문자보다 크다.
+                    return topPath != null && topPath.length() > parentPath.length() && topPath.startsWith(parentPath) ?
+                            Optional.of(CommentPath.toBytes(topPath)) : Optional.empty();
+                });
+        given(commentRepository.saveAndFlush(any(CommentV2.class))).willAnswer(invocation -> {
+            CommentV2 comment = invocation.getArgument(0);
+            if (!storedPaths.add(comment.getCommentPath().getPath())) {
+                throw new DataIntegrityViolationException("duplicate path");
+            }
+            return comment;
+        });
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)
+        );
+        IdSupplier idSupplier = new IdSupplier(new Snowflake(1L, 0L, 0L));
+        List<CommentServiceV2> instances = List.of(
+                new CommentServiceV2(idSupplier, commentRepository, new CommentPathAllocator(commentRepository), transactionTemplate),
+                new CommentServiceV2(idSupplier, commentRepository, new CommentPathAllocator(commentRepository), transactionTemplate)
+        );
+        CommentCreateRequestV2 request = new CommentCreateRequestV2();
+        ReflectionTestUtils.setField(request, "articleId", articleId);
+        ReflectionTestUtils.setField(request, "content", "reply");
+        ReflectionTestUtils.setField(request, "parentPath", parentCommentPath.getPath());
+        ReflectionTestUtils.setField(request, "writerId", 1L);
+
+        int threadCount = 8;
+        int requestCount = 2_000;
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+
+        //when - 두 인스턴스에 번갈아 요청
+        for (int i = 0; i < requestCount; i++) {
+            CommentServiceV2 instance = instances.get(i % instances.size());
+            executorService.execute(() -> {
+                try {
+                    instance.create(request);
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        assertThat(errors).isEmpty();
+        assertThat(storedPaths).hasSize(requestCount);
+    }
+
+    @Test
+    @DisplayName("evict 하면 다음 발급 시 DB 기준으로 다시 맞춘다.")
+    void evictTest() {
+        //given
+        Long articleId = 1L;
+        CommentPath parentCommentPath = CommentPath.create("");
+        given(commentRepository.findDescendantsTopPath(
+                articleId, parentCommentPath.toBytes(), parentCommentPath.toDescendantsUpperBound()
+        )).willReturn(Optional.empty(), Optional.of(CommentPath.toBytes("00005")));
+
+        //when
+        String first = commentPathAllocator.allocateChild(articleId, parentCommentPath).getPath();
+        commentPathAllocator.evict(articleId, parentCommentPath);
+        String second = commentPathAllocator.allocateChild(articleId, parentCommentPath).getPath();
+
+        //then
+        assertThat(first).isEqualTo("00000");
+        assertThat(second).isEqualTo("00006");
+    }
+}
@@ -1,16 +1,32 @@
 package jamm.board.comment.service;
 
+import jamm.board.comment.entity.ArticleCommentCount;
 import jamm.board.comment.entity.Comment;
+import jamm.board.comment.repository.ArticleCommentCountRepository;
+import jamm.board.comment.repository.CommentBulkRepository;
 import jamm.board.comment.repository.CommentRepository;
+import jamm.board.comment.service.request.CommentCreateRequest;
+import jamm.board.comment.service.response.CommentInfiniteScrollResponse;
+import jamm.board.comment.service.response.CommentResponse;
+import kuke.board.common.snowflake.IdSupplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -23,6 +39,18 @@ class CommentServiceTest {
     @Mock
     CommentRepository commentRepository;
 
+    @Mock
+    ArticleCommentCountRepository articleCommentCountRepository;
+
+    @Mock
+    CommentBulkRepository commentBulkRepository;
+
+    @Mock
+    RootCommentCache rootCommentCache;
+
+    @Mock
+    IdSupplier idSupplier;
+
     @Test
     @DisplayName("삭제할 댓글이 자식이 있으면 삭제 표시만 한다.")
     void deleteShouldMarkDeletedIfHasChildren() {
@@ -30,21 +58,43 @@ class CommentServiceTest {
         Long articleId = 1L;
         Long commentId = 2L;
         Comment comment = createComment(articleId, commentId);
+        given(comment.isRoot()).willReturn(true);
         given(commentRepository.findById(commentId))
                 .willReturn(Optional.of(comment));
-        //자식댓글이 가능하도록 설정
-        given(commentRepository.countBy(articleId, commentId,2L)).willReturn(2L);
+        //자식댓글이 있어서 삭제되지 않음
+        given(commentRepository.deleteIfNoChildren(articleId, commentId)).willReturn(0);
 
         //when
         commentService.delete(commentId);
 
-        //then (soft delete)
+        //then (soft delete) - row가 남아 있으므로 댓글 수는 그대로
         verify(comment).delete();
+        verify(articleCommentCountRepository, never()).decrease(any(), any());
+    }
+
+    @Test
+    @DisplayName("삭제할 댓글이 자식이 없으면 실제 삭제한다.")
+    void deleteShouldDeleteIfHasNoChildren() {
+        //given
+        Long articleId = 1L;
+        Long commentId = 2L;
+        Comment comment = createComment(articleId, commentId);
+        given(comment.isRoot()).willReturn(true);
+        given(commentRepository.findById(commentId))
+                .willReturn(Optional.of(comment));
+        given(commentRepository.deleteIfNoChildren(articleId, commentId)).willReturn(1);
+
+        //when
+        commentService.delete(commentId);
+
+        //then
+        verify(comment, never()).delete();
+        verify(articleCommentCountRepository).decrease(articleId, 1L);
     }
 
     @Test
-    @DisplayName("하위 댓글이 삭제되고, 삭제되지 않은 부모면, 하위 댓글만 삭제한다.")
-    void deleteShouldDeleteChildOnlyIfNotDeletedParent() {
+    @DisplayName("하위 댓글을 삭제하면, 부모 댓글 정리까지 한 문장으로 요청한다.")
+    void deleteShouldDeleteChildWithDeletedParentInOneStatement() {
         //given
         Long articleId = 1L;
         Long commentId = 2L;
@@ -54,63 +104,225 @@ class CommentServiceTest {
         Comment comment = createComment(articleId, commentId, parentCommentId);
         given(comment.isRoot()).willReturn(false); //대댓글 명시
 
-        //부모 댓글 Mock 생성 (삭제되지 않은 상태)
-        Comment parentComment = mock(Comment.class);
-        given(parentComment.getDeleted()).willReturn(false);
-
         given(commentRepository.findById(commentId))
                 .willReturn(Optional.of(comment)); //자식 댓글 조회
+        given(commentRepository.deleteWithDeletedParent(articleId, commentId, parentCommentId))
+                .willReturn(2); //삭제 표시된 부모도 함께 삭제됨
 
-        given(commentRepository.countBy(articleId, commentId,2L)).willReturn(1L); //자식 댓글 1개 존재
+        //when
+        commentService.delete(commentId);
+
+        //then
+        verify(commentRepository).deleteWithDeletedParent(articleId, commentId, parentCommentId);
+        verify(commentRepository, never()).findById(parentCommentId); //부모 댓글을 따로 조회하지 않음
+        verify(comment, never()).delete();
+        verify(articleCommentCountRepository).decrease(articleId, 2L); //삭제된 row 수만큼 감소
+    }
 
-        given(commentRepository.findById(parentCommentId))
-                .willReturn(Optional.of(parentComment)); //부모 댓글 조회
+    @Test
+    @DisplayName("이미 삭제 표시된 댓글은 다시 삭제하지 않는다.")
+    void deleteShouldIgnoreAlreadyDeleted() {
+        //given
+        Long commentId = 2L;
+        Comment comment = mock(Comment.class);
+        given(comment.getDeleted()).willReturn(true);
+        given(commentRepository.findById(commentId))
+                .willReturn(Optional.of(comment));
 
         //when
         commentService.delete(commentId);
 
-        //then (soft delete)
-        verify(commentRepository).delete(comment); //대댓글만 삭제
-        verify(commentRepository, never()).delete(parentComment); //부모 댓글은 삭제 X (자식 댓글이 존재하기 때문에)
+        //then
+        verify(commentRepository, never()).deleteIfNoChildren(any(), any());
+        verify(commentRepository, never()).deleteWithDeletedParent(any(), any(), any());
+        verify(articleCommentCountRepository, never()).decrease(any(), any());
     }
 
     @Test
-    @DisplayName("하위 댓글이 삭제되고, 삭제된 부모면, 재귀적으로 모두 삭제한다.")
-    void deleteShouldDeleteAllRecursivelyIfDeleteParent() {
+    @DisplayName("limit + 1개가 조회되면 limit개만 내려주고, 마지막 댓글 위치를 다음 커서로 준다.")
+    void readAllInfiniteScrollShouldReturnNextCursorIfHasNext() {
         //given
         Long articleId = 1L;
-        Long commentId = 2L;
-        Long parentCommentId = 1L;
+        List<Comment> comments = List.of(
+                createComment(articleId, 1L, 1L),
+                createComment(articleId, 2L, 1L),
+                mock(Comment.class)
+        );
+        given(commentRepository.findAllInfiniteScroll(articleId, 3L)).willReturn(comments);
 
-        //대댓글 생성
-        Comment comment = createComment(articleId, commentId, parentCommentId);
-        given(comment.isRoot()).willReturn(false);
+        //when
+        CommentInfiniteScrollResponse response = commentService.readAllInfiniteScroll(articleId, null, 2L);
 
-        //부모 댓글 생성 (이미 삭제된 상태)
-        Comment parentComment = createComment(articleId, parentCommentId);
-        given(parentComment.isRoot()).willReturn(true);
-        given(parentComment.getDeleted()).willReturn(true);
+        //then
+        assertThat(response.getComments()).hasSize(2);
+        assertThat(response.getHasNext()).isTrue();
+        CommentCursor nextCursor = CommentCursor.decode(response.getNextCursor());
+        assertThat(nextCursor.getLastParentCommentId()).isEqualTo(1L);
+        assertThat(nextCursor.getLastCommentId()).isEqualTo(2L);
+    }
 
-        given(commentRepository.findById(commentId))
-                .willReturn(Optional.of(comment));
+    @Test
+    @DisplayName("커서 위치 다음부터 조회하고, limit개 이하면 마지막 페이지다.")
+    void readAllInfiniteScrollShouldReadAfterCursor() {
+        //given
+        Long articleId = 1L;
+        String cursor = CommentCursor.of(1L, 2L).encode();
+        given(commentRepository.findAllInfiniteScroll(articleId, 1L, 2L, 3L))
+                .willReturn(List.of(createComment(articleId, 3L, 3L)));
 
-        //대댓글의 자식 댓글이 1개 존재
-        given(commentRepository.countBy(articleId, commentId,2L)).willReturn(1L);
+        //when
+        CommentInfiniteScrollResponse response = commentService.readAllInfiniteScroll(articleId, cursor, 2L);
 
-        //부모 댓글 조회
-        given(commentRepository.findById(parentCommentId))
-                .willReturn(Optional.of(parentComment));
+        //then
+        assertThat(response.getComments()).hasSize(1);
+        assertThat(response.getHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("limit이 1보다 작으면 조회하지 않고 실패한다.")
+    void readAllInfiniteScrollShouldRejectNonPositiveLimit() {
+        assertThatThrownBy(() -> commentService.readAllInfiniteScroll(1L, null, 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> commentService.readAllInfiniteScroll(1L, null, -1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(commentRepository);
+    }
 
-        // 부모 댓글의 자식 댓글도 1개 (재귀 삭제 조건 충족)
-        given(commentRepository.countBy(articleId, parentCommentId,2L)).willReturn(1L);
+    @Test
+    @DisplayName("lastParentCommentId와 lastCommentId 중 하나만 있으면 처음부터 다시 읽지 않고 실패한다.")
+    void readAllInfiniteScrollShouldRejectPartialPosition() {
+        assertThatThrownBy(() -> commentService.readAll(1L, 1L, null, 10L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> commentService.readAllInfiniteScroll(1L, "not-a-cursor", 10L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 
+    @Test
+    @DisplayName("최근에 확인한 루트 댓글에 답글을 달면 부모 댓글을 조회하지 않는다.")
+    void createShouldSkipParentLookupIfRootCached() {
+        //given
+        Long articleId = 1L;
+        Long parentCommentId = 10L;
+        given(rootCommentCache.contains(parentCommentId)).willReturn(true);
+        given(idSupplier.nextIdAfter(parentCommentId)).willReturn(11L);
+        given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         //when
-        commentService.delete(commentId);
+        CommentResponse response = commentService.create(createRequest(articleId, parentCommentId));
+
+        //then
+        assertThat(response.getParentCommentId()).isEqualTo(parentCommentId);
+        verify(commentRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 루트 댓글은 한 번 조회해서 검증한 뒤 캐시에 넣는다.")
+    void createShouldCacheRootAfterLookup() {
+        //given
+        Long articleId = 1L;
+        Long parentCommentId = 10L;
+        Comment parent = mock(Comment.class);
+        given(parent.getCommentId()).willReturn(parentCommentId);
+        given(parent.getDeleted()).willReturn(false);
+        given(parent.isRoot()).willReturn(true);
+        given(commentRepository.findById(parentCommentId)).willReturn(Optional.of(parent));
+        given(idSupplier.nextIdAfter(parentCommentId)).willReturn(11L);
+        given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        commentService.create(createRequest(articleId, parentCommentId));
+
+        //then
+        verify(rootCommentCache).put(parentCommentId);
+    }
+
+    @Test
+    @DisplayName("일괄 생성은 캐시에 없는 부모만 IN 쿼리 한 번으로 검증하고, 게시글별로 댓글 수를 한 번씩 올린다.")
+    void createAllShouldValidateParentsInOneQuery() {
+        //given
+        Long cachedParentCommentId = 10L;
+        Long parentCommentId = 20L;
+        Comment parent = mock(Comment.class);
+        given(parent.getCommentId()).willReturn(parentCommentId);
+        given(parent.getDeleted()).willReturn(false);
+        given(parent.isRoot()).willReturn(true);
+        given(rootCommentCache.findAllPresent(any())).willReturn(Set.of(cachedParentCommentId));
+        given(commentRepository.findAllById(Set.of(parentCommentId))).willReturn(List.of(parent));
+        given(idSupplier.nextId()).willReturn(100L);
+        given(idSupplier.nextIdAfter(anyLong())).willReturn(101L, 102L, 103L);
+
+        List<CommentCreateRequest> requests = List.of(
+                createRequest(1L, cachedParentCommentId),
+                createRequest(1L, parentCommentId),
+                createRequest(1L, parentCommentId),
+                createRequest(2L, null)
+        );
+
+        //when
+        List<CommentResponse> responses = commentService.createAll(requests);
 
         //then
-        verify(commentRepository).delete(comment); //대댓글 삭제
-        verify(commentRepository).delete(parentComment); //부모 댓글도 삭제
+        assertThat(responses).hasSize(4);
+        verify(commentRepository, times(1)).findAllById(any());
+        verify(commentRepository, never()).findById(any());
+        verify(commentBulkRepository).insertAll(anyList());
+        verify(articleCommentCountRepository).increase(1L, 3L);
+        verify(articleCommentCountRepository).increase(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("일괄 생성에서 부모가 하나라도 유효하지 않으면 저장하지 않는다.")
+    void createAllShouldFailIfAnyParentInvalid() {
+        //given
+        Long parentCommentId = 20L;
+        given(rootCommentCache.findAllPresent(any())).willReturn(Set.of());
+        given(commentRepository.findAllById(Set.of(parentCommentId))).willReturn(List.of());
+
+        //when, then
+        assertThatThrownBy(() -> commentService.createAll(List.of(createRequest(1L, parentCommentId))))
+                .isInstanceOf(NoSuchElementException.class);
+        verify(commentBulkRepository, never()).insertAll(any());
+    }
+
+    @Test
+    @DisplayName("일괄 생성에서 articleId나 writerId가 빠진 요청이 있으면 ID를 발급하지 않고 IllegalArgumentException으로 실패한다.")
+    void createAllShouldFailIfRequiredFieldMissing() {
+        //given
+        CommentCreateRequest noArticleId = createRequest(null, null);
+        CommentCreateRequest noWriterId = createRequest(1L, null);
+        ReflectionTestUtils.setField(noWriterId, "writerId", null);
+
+        //when, then
+        assertThatThrownBy(() -> commentService.createAll(List.of(createRequest(1L, null), noArticleId)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> commentService.createAll(List.of(noWriterId)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(idSupplier, commentBulkRepository);
+    }
+
+    @Test
+    @DisplayName("페이지 번호 조회의 댓글 수는 article_comment_count에서 읽고, 이동 가능한 페이지까지로 자른다.")
+    void countShouldReadArticleCommentCount() {
+        //given
+        given(articleCommentCountRepository.findById(1L))
+                .willReturn(Optional.of(ArticleCommentCount.init(1L, 1_000L)));
+        given(articleCommentCountRepository.findById(2L)).willReturn(Optional.empty());
+
+        //when, then
+        assertThat(commentService.count(1L, 1L, 30L)).isEqualTo(301L);
+        assertThat(commentService.count(1L, 11L, 50L)).isEqualTo(1_000L);
+        assertThat(commentService.count(2L, 1L, 30L)).isEqualTo(0L);
+        verifyNoInteractions(commentRepository);
+    }
+
+    private CommentCreateRequest createRequest(Long articleId, Long parentCommentId) {
+        CommentCreateRequest request = new CommentCreateRequest();
+        ReflectionTestUtils.setField(request, "articleId", articleId);
+        ReflectionTestUtils.setField(request, "content", "content");
+        ReflectionTestUtils.setField(request, "parentCommentId", parentCommentId);
+        ReflectionTestUtils.setField(request, "writerId", 1L);
+        return request;
     }
 
     private Comment createComment(Long articleId, Long commentId) {
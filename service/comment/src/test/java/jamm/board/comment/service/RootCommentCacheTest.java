@@ -0,0 +1,42 @@
+package jamm.board.comment.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RootCommentCacheTest {
+
+    RootCommentCache rootCommentCache = new RootCommentCache();
+
+    @Test
+    @DisplayName("트랜잭션 안의 invalidate는 커밋 후에 반영된다.")
+    void invalidateAfterCommitTest() {
+        rootCommentCache.put(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            rootCommentCache.invalidate(1L);
+            // 커밋 전에 다른 요청이 루트를 다시 캐시해도
+            rootCommentCache.put(1L);
+            assertThat(rootCommentCache.contains(1L)).isTrue();
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(rootCommentCache.contains(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 invalidate는 바로 반영된다.")
+    void invalidateWithoutTransactionTest() {
+        rootCommentCache.put(1L);
+
+        rootCommentCache.invalidate(1L);
+
+        assertThat(rootCommentCache.contains(1L)).isFalse();
+    }
+}
@@ -47,9 +47,10 @@ public class DataInitializer {
     void insert() {
         transactionTemplate.executeWithoutResult(status -> {
             Comment prev = null;
+            long[] ids = snowflake.nextIds(BULK_INSERT_SIZE);
             for(int i=0; i < BULK_INSERT_SIZE; i++) {
                 Comment comment = Comment.create(
-                        snowflake.nextId(),
+                        ids[i],
                         "content",
                         i % 2 == 0 ? null : prev.getCommentId(),
                         1L,
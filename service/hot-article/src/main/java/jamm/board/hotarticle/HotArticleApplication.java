@@ -2,7 +2,9 @@ package jamm.board.hotarticle;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling
 @SpringBootApplication
 public class HotArticleApplication {
     public static void main(String[] args) {
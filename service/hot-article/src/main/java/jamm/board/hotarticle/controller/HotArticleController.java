@@ -0,0 +1,43 @@
+package jamm.board.hotarticle.controller;
+
+import jamm.board.hotarticle.service.HotArticleService;
+import jamm.board.hotarticle.service.request.HotArticleEventRequest;
+import jamm.board.hotarticle.service.response.HotArticleResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class HotArticleController {
+
+    private final HotArticleService hotArticleService;
+
+    @PostMapping("/v1/hot-articles/events")
+    public void handle(@RequestBody HotArticleEventRequest request) {
+        hotArticleService.handle(request);
+    }
+
+    /**
+     * 날짜별 인기글 - /v1/hot-articles/articles/date/20241231?limit=10
+     */
+    @GetMapping("/v1/hot-articles/articles/date/{date}")
+    public List<HotArticleResponse> readAll(
+            @PathVariable("date") @DateTimeFormat(pattern = "yyyyMMdd") LocalDate date,
+            @RequestParam(value = "limit", defaultValue = "10") Integer limit
+    ) {
+        return hotArticleService.readAll(date, limit);
+    }
+
+    /**
+     * 잘못된 이벤트(type/articleId/delta 누락, 미래 시각)와 limit은 500이 아니라 400으로 응답한다.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,96 @@
+package jamm.board.hotarticle.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 하루치 인기글 순위 - 이벤트마다 점수를 더하고, 상위 후보만 정렬된 상태로 유지한다.
+ * - 모든 게시글의 점수는 scores에 두고, 정렬은 상위 capacity * 2개(candidates)에만 한다. 이벤트 하나에 O(log capacity)
+ * - candidates 밖의 게시글은 모두 candidates.last() 이하다. 그래서 candidates는 항상 정확한 상위 N개이고,
+ *   상위 limit개 조회는 candidates 앞에서부터 limit개만 읽는다. O(limit)
+ * - 점수가 줄어 candidates.last()보다 낮아진 게시글은 candidates에서 빠진다. (좋아요 취소, 댓글 삭제)
+ *   capacity개 아래로 줄었을 때만 그 이벤트에서 scores로 candidates를 다시 만든다. 조회는 다시 만들지 않는다.
+ */
+public class HotArticleDailyRanking {
+    private final int capacity;
+    private final int candidateCapacity;
+    private final Map<Long, Long> scores = new HashMap<>();
+    private final TreeSet<HotArticleScore> candidates = new TreeSet<>(HotArticleScore.RANKING_ORDER);
+    private boolean trimmed; // candidates 밖에 점수가 있는 게시글이 있는지
+
+    public HotArticleDailyRanking(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.candidateCapacity = capacity * 2;
+    }
+
+    public synchronized void add(long articleId, long scoreDelta) {
+        if (scoreDelta == 0) {
+            return;
+        }
+        Long oldScore = scores.get(articleId);
+        long newScore = oldScore == null ? scoreDelta : oldScore + scoreDelta;
+        scores.put(articleId, newScore);
+        if (oldScore != null) {
+            candidates.remove(HotArticleScore.of(articleId, oldScore));
+        }
+        offer(HotArticleScore.of(articleId, newScore));
+        if (trimmed && candidates.size() < capacity) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 상위 limit개 - limit은 capacity까지
+     */
+    public synchronized List<HotArticleScore> top(int limit) {
+        int size = Math.min(Math.min(limit, capacity), candidates.size());
+        List<HotArticleScore> result = new ArrayList<>(size);
+        Iterator<HotArticleScore> iterator = candidates.iterator();
+        while (result.size() < size) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    public synchronized long score(long articleId) {
+        return scores.getOrDefault(articleId, 0L);
+    }
+
+    public synchronized int size() {
+        return scores.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private void offer(HotArticleScore score) {
+        if (!trimmed && candidates.size() < candidateCapacity) {
+            candidates.add(score);
+            return;
+        }
+        // candidates 밖에 게시글이 있으면 last보다 높은 점수만 들어올 수 있다.
+        if (!candidates.isEmpty() && HotArticleScore.RANKING_ORDER.compare(score, candidates.last()) < 0) {
+            candidates.add(score);
+            if (candidates.size() > candidateCapacity) {
+                candidates.pollLast();
+                trimmed = true;
+            }
+        } else {
+            trimmed = true;
+        }
+    }
+
+    private void rebuild() {
+        candidates.clear();
+        trimmed = false;
+        scores.forEach((articleId, score) -> offer(HotArticleScore.of(articleId, score)));
+    }
+}
@@ -0,0 +1,59 @@
+package jamm.board.hotarticle.service;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지난 날짜의 순위 - 자정이 지나면 HotArticleDailyRanking의 상위 capacity개를 배열로 고정한 것.
+ * 바뀌지 않으므로 lock 없이 읽는다. 게시글별 점수 map은 버려서 하루치 메모리는 capacity에만 비례한다.
+ */
+public class HotArticleDailySnapshot {
+    private static final long ARRAY_HEADER_BYTES = 16L;
+
+    @Getter
+    private final LocalDate date;
+    private final long[] articleIds;
+    private final long[] scores;
+
+    private HotArticleDailySnapshot(LocalDate date, long[] articleIds, long[] scores) {
+        this.date = date;
+        this.articleIds = articleIds;
+        this.scores = scores;
+    }
+
+    /**
+     * ranking은 순위 순서로 정렬되어 있어야 한다.
+     */
+    public static HotArticleDailySnapshot of(LocalDate date, List<HotArticleScore> ranking) {
+        long[] articleIds = new long[ranking.size()];
+        long[] scores = new long[ranking.size()];
+        for (int i = 0; i < ranking.size(); i++) {
+            articleIds[i] = ranking.get(i).getArticleId();
+            scores[i] = ranking.get(i).getScore();
+        }
+        return new HotArticleDailySnapshot(date, articleIds, scores);
+    }
+
+    public List<HotArticleScore> top(int limit) {
+        int size = Math.min(limit, articleIds.length);
+        List<HotArticleScore> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(HotArticleScore.of(articleIds[i], scores[i]));
+        }
+        return result;
+    }
+
+    public int size() {
+        return articleIds.length;
+    }
+
+    /**
+     * 배열 2개의 크기 (객체 헤더 등은 제외한 근사값)
+     */
+    public long memoryBytes() {
+        return 2 * (ARRAY_HEADER_BYTES + (long) Long.BYTES * articleIds.length);
+    }
+}
@@ -0,0 +1,7 @@
+package jamm.board.hotarticle.service;
+
+public enum HotArticleEventType {
+    LIKE,
+    COMMENT,
+    VIEW
+}
@@ -0,0 +1,19 @@
+package jamm.board.hotarticle.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자정이 지나면 전날 순위를 고정한다. 주기만큼 늦게 고정되므로, 그동안 도착한 전날 이벤트도 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotArticleRankingFreezer {
+    private final HotArticleRankingStore hotArticleRankingStore;
+
+    @Scheduled(fixedDelayString = "${hot-article.snapshot.freeze-interval-millis:60000}")
+    public void freeze() {
+        hotArticleRankingStore.freezeAndEvict();
+    }
+}
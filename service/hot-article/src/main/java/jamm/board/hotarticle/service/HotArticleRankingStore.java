@@ -0,0 +1,145 @@
+package jamm.board.hotarticle.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 날짜별 인기글 순위 저장소
+ * - 오늘 날짜는 HotArticleDailyRanking에 이벤트를 더한다. 오늘 이후 날짜는 받지 않는다.
+ * - 날짜가 지나면 freezeAndEvict가 순위를 HotArticleDailySnapshot으로 고정하고, 그 날짜의 이벤트는 더 받지 않는다.
+ * - retentionDays보다 오래된 snapshot은 지운다. 따라서 메모리는 (retentionDays + 1) * capacity에 비례한다.
+ */
+@Slf4j
+@Component
+public class HotArticleRankingStore {
+    private final int capacity;
+    private final int retentionDays;
+    private final Supplier<LocalDate> today;
+    private final Map<LocalDate, HotArticleDailyRanking> liveRankings = new ConcurrentHashMap<>();
+    private final Map<LocalDate, HotArticleDailySnapshot> snapshots = new ConcurrentHashMap<>();
+
+    // 이 날짜 이전은 고정되었거나 고정될 예정이라 이벤트를 받지 않는다.
+    private volatile LocalDate frozenBefore;
+
+    @Autowired
+    public HotArticleRankingStore(
+            @Value("${hot-article.ranking.capacity:100}") int capacity,
+            @Value("${hot-article.snapshot.retention-days:30}") int retentionDays
+    ) {
+        this(capacity, retentionDays, LocalDate::now);
+    }
+
+    HotArticleRankingStore(int capacity, int retentionDays, Supplier<LocalDate> today) {
+        if (retentionDays < 0) {
+            throw new IllegalArgumentException("retentionDays must not be negative: " + retentionDays);
+        }
+        this.capacity = capacity;
+        this.retentionDays = retentionDays;
+        this.today = today;
+        this.frozenBefore = today.get();
+    }
+
+    /**
+     * date 순위에 점수 변화량을 더한다. 이미 고정된 날짜면 반영하지 않고 false
+     * 오늘 이후 날짜는 고정되지 않은 채 쌓이기만 하므로 받지 않는다. (시계 오차는 HotArticleService에서 오늘로 맞춘다.)
+     */
+    public boolean add(LocalDate date, long articleId, long scoreDelta) {
+        if (date.isAfter(today.get())) {
+            throw new IllegalArgumentException("date must not be after today: " + date);
+        }
+        if (date.isBefore(frozenBefore)) {
+            return false;
+        }
+        boolean[] added = new boolean[1];
+        // 고정(computeIfPresent)과 같은 bin lock 안에서 더하므로, 고정이 시작된 뒤의 이벤트가 순위에 섞이지 않는다.
+        liveRankings.compute(date, (key, ranking) -> {
+            if (key.isBefore(frozenBefore)) {
+                return ranking;
+            }
+            HotArticleDailyRanking target = ranking == null ? new HotArticleDailyRanking(capacity) : ranking;
+            target.add(articleId, scoreDelta);
+            added[0] = true;
+            return target;
+        });
+        return added[0];
+    }
+
+    /**
+     * 지난 날짜는 snapshot에서 lock 없이, 오늘은 진행 중인 순위에서 읽는다.
+     */
+    public List<HotArticleScore> top(LocalDate date, int limit) {
+        HotArticleDailySnapshot snapshot = snapshots.get(date);
+        if (snapshot != null) {
+            return snapshot.top(limit);
+        }
+        HotArticleDailyRanking ranking = liveRankings.get(date);
+        if (ranking != null) {
+            return ranking.top(limit);
+        }
+        // 고정 중에 live에서 지워진 직후일 수 있다.
+        snapshot = snapshots.get(date);
+        return snapshot == null ? List.of() : snapshot.top(limit);
+    }
+
+    /**
+     * 오늘 이전의 순위를 snapshot으로 고정하고, 보관 기간이 지난 snapshot을 지운다. 여러 번 실행해도 결과는 같다.
+     */
+    public void freezeAndEvict() {
+        LocalDate currentDate = today.get();
+        if (currentDate.isAfter(frozenBefore)) {
+            frozenBefore = currentDate;
+        }
+        LocalDate expiredBefore = frozenBefore.minusDays(retentionDays);
+
+        int frozen = 0;
+        for (LocalDate date : liveRankings.keySet()) {
+            if (!date.isBefore(frozenBefore)) {
+                continue;
+            }
+            // snapshot을 먼저 넣고 live를 지워서, 읽는 쪽에서 둘 다 안 보이는 순간이 없게 한다.
+            liveRankings.computeIfPresent(date, (key, ranking) -> {
+                if (!key.isBefore(expiredBefore)) {
+                    snapshots.put(key, HotArticleDailySnapshot.of(key, ranking.top(capacity)));
+                }
+                return null;
+            });
+            frozen++;
+        }
+        int evicted = 0;
+        for (LocalDate date : snapshots.keySet()) {
+            if (date.isBefore(expiredBefore) && snapshots.remove(date) != null) {
+                evicted++;
+            }
+        }
+        if (frozen > 0 || evicted > 0) {
+            log.info("[HotArticleRankingStore.freezeAndEvict] frozen={}, evicted={}, snapshots={}, snapshotBytes={}",
+                    frozen, evicted, snapshots.size(), snapshotMemoryBytes());
+        }
+    }
+
+    public long snapshotMemoryBytes() {
+        return snapshots.values().stream()
+                .mapToLong(HotArticleDailySnapshot::memoryBytes)
+                .sum();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    int liveDays() {
+        return liveRankings.size();
+    }
+
+    int snapshotDays() {
+        return snapshots.size();
+    }
+}
@@ -0,0 +1,31 @@
+package jamm.board.hotarticle.service;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Comparator;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class HotArticleScore {
+    /**
+     * 점수 내림차순, 같은 점수면 articleId 오름차순
+     */
+    public static final Comparator<HotArticleScore> RANKING_ORDER = Comparator
+            .comparingLong(HotArticleScore::getScore).reversed()
+            .thenComparingLong(HotArticleScore::getArticleId);
+
+    private final long articleId;
+    private final long score;
+
+    private HotArticleScore(long articleId, long score) {
+        this.articleId = articleId;
+        this.score = score;
+    }
+
+    public static HotArticleScore of(long articleId, long score) {
+        return new HotArticleScore(articleId, score);
+    }
+}
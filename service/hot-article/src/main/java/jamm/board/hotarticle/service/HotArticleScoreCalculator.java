@@ -0,0 +1,37 @@
+package jamm.board.hotarticle.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 점수 = 좋아요 수 * like 가중치 + 댓글 수 * comment 가중치 + 조회수 * view 가중치
+ * 가중치 합이므로 이벤트 하나의 점수 변화량은 가중치 * 변화량이다.
+ */
+@Component
+public class HotArticleScoreCalculator {
+    private final Map<HotArticleEventType, Long> weights = new EnumMap<>(HotArticleEventType.class);
+
+    public HotArticleScoreCalculator(
+            @Value("${hot-article.score.weight.like:3}") long likeWeight,
+            @Value("${hot-article.score.weight.comment:2}") long commentWeight,
+            @Value("${hot-article.score.weight.view:1}") long viewWeight
+    ) {
+        weights.put(HotArticleEventType.LIKE, likeWeight);
+        weights.put(HotArticleEventType.COMMENT, commentWeight);
+        weights.put(HotArticleEventType.VIEW, viewWeight);
+    }
+
+    public long calculate(HotArticleEventType type, long delta) {
+        if (type == null) {
+            throw new IllegalArgumentException("type must not be null");
+        }
+        try {
+            return Math.multiplyExact(weights.get(type), delta);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("delta is out of range: " + delta, e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package jamm.board.hotarticle.service;
+
+import jamm.board.hotarticle.service.request.HotArticleEventRequest;
+import jamm.board.hotarticle.service.response.HotArticleResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotArticleService {
+    private final HotArticleScoreCalculator hotArticleScoreCalculator;
+    private final HotArticleRankingStore hotArticleRankingStore;
+
+    // 이벤트를 보낸 서버의 시계가 이만큼 빠른 것까지는 지금 발생한 것으로 본다.
+    @Value("${hot-article.event.max-clock-skew-millis:60000}")
+    private long maxClockSkewMillis;
+
+    /**
+     * 이벤트가 발생한 날짜의 순위에 점수 변화량만 더한다. 이미 고정된 날짜의 이벤트는 버린다.
+     */
+    public void handle(HotArticleEventRequest request) {
+        if (request.getType() == null || request.getArticleId() == null || request.getDelta() == null) {
+            throw new IllegalArgumentException("type, articleId and delta are required");
+        }
+        LocalDateTime occurredAt = occurredAt(request.getOccurredAt());
+        long scoreDelta = hotArticleScoreCalculator.calculate(request.getType(), request.getDelta());
+        if (!hotArticleRankingStore.add(occurredAt.toLocalDate(), request.getArticleId(), scoreDelta)) {
+            log.debug("[HotArticleService.handle] frozen date. articleId={}, occurredAt={}", request.getArticleId(), occurredAt);
+        }
+    }
+
+    // 발생 시각이 없으면 지금, 시계 오차 안에서 미래면 지금으로 맞춘다. 그보다 미래면 실패
+    private LocalDateTime occurredAt(LocalDateTime requested) {
+        LocalDateTime now = LocalDateTime.now();
+        if (requested == null) {
+            return now;
+        }
+        if (!requested.isAfter(now)) {
+            return requested;
+        }
+        if (requested.isAfter(now.plus(maxClockSkewMillis, ChronoUnit.MILLIS))) {
+            throw new IllegalArgumentException("occurredAt must not be in the future: " + requested);
+        }
+        return now;
+    }
+
+    public List<HotArticleResponse> readAll(LocalDate date, int limit) {
+        if (limit > hotArticleRankingStore.capacity()) {
+            throw new IllegalArgumentException("limit must be <= " + hotArticleRankingStore.capacity() + ": " + limit);
+        }
+        return hotArticleRankingStore.top(date, limit).stream()
+                .map(HotArticleResponse::from)
+                .toList();
+    }
+}
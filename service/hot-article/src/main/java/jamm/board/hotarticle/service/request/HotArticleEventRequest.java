@@ -0,0 +1,14 @@
+package jamm.board.hotarticle.service.request;
+
+import jamm.board.hotarticle.service.HotArticleEventType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class HotArticleEventRequest {
+    private HotArticleEventType type;
+    private Long articleId;
+    private Long delta;
+    private LocalDateTime occurredAt;
+}
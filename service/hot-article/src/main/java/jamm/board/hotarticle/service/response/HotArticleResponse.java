@@ -0,0 +1,19 @@
+package jamm.board.hotarticle.service.response;
+
+import jamm.board.hotarticle.service.HotArticleScore;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+public class HotArticleResponse {
+    private Long articleId;
+    private Long score;
+
+    public static HotArticleResponse from(HotArticleScore hotArticleScore) {
+        HotArticleResponse response = new HotArticleResponse();
+        response.articleId = hotArticleScore.getArticleId();
+        response.score = hotArticleScore.getScore();
+        return response;
+    }
+}
@@ -0,0 +1,54 @@
+package jamm.board.hotarticle.api;
+
+import jamm.board.hotarticle.service.HotArticleEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.client.RestClient;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+public class HotArticleApiTest {
+
+    RestClient restClient = RestClient.create("http://localhost:9004");
+
+    @Test
+    void handleAndReadAllTest() {
+        // 지난 날짜는 고정되어 반영되지 않고, 미래 시각은 거절되므로 지금 발생한 이벤트로 보낸다.
+        LocalDateTime occurredAt = LocalDateTime.now();
+        for (long articleId = 1; articleId <= 20; articleId++) {
+            handle(new HotArticleEventRequest(HotArticleEventType.VIEW, articleId, articleId * 10, occurredAt));
+            handle(new HotArticleEventRequest(HotArticleEventType.LIKE, articleId, articleId % 5, occurredAt));
+            handle(new HotArticleEventRequest(HotArticleEventType.COMMENT, articleId, articleId % 3, occurredAt));
+        }
+
+        List<Map<String, Object>> response = restClient.get()
+                .uri("/v1/hot-articles/articles/date/{date}?limit=10", occurredAt.format(DateTimeFormatter.BASIC_ISO_DATE))
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<Map<String, Object>>>() {
+                });
+
+        response.forEach(hotArticle -> System.out.println("hotArticle = " + hotArticle));
+    }
+
+    void handle(HotArticleEventRequest request) {
+        restClient.post()
+                .uri("/v1/hot-articles/events")
+                .body(request)
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class HotArticleEventRequest {
+        private HotArticleEventType type;
+        private Long articleId;
+        private Long delta;
+        private LocalDateTime occurredAt;
+    }
+}
@@ -0,0 +1,178 @@
+package jamm.board.hotarticle.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HotArticleDailyRankingTest {
+
+    @Test
+    void topTest() {
+        HotArticleDailyRanking ranking = new HotArticleDailyRanking(3);
+        ranking.add(1L, 10L);
+        ranking.add(2L, 30L);
+        ranking.add(3L, 20L);
+        ranking.add(4L, 5L);
+        ranking.add(4L, 30L); // 35
+
+        assertThat(ranking.top(10)).containsExactly(
+                HotArticleScore.of(4L, 35L),
+                HotArticleScore.of(2L, 30L),
+                HotArticleScore.of(3L, 20L)
+        );
+        assertThat(ranking.top(1)).containsExactly(HotArticleScore.of(4L, 35L));
+    }
+
+    // 상위에 있던 게시글의 점수가 줄면, 밖으로 밀려났던 게시글이 다시 올라와야 한다.
+    @Test
+    void topAfterDecreaseTest() {
+        HotArticleDailyRanking ranking = new HotArticleDailyRanking(2);
+        ranking.add(1L, 30L);
+        ranking.add(2L, 20L);
+        ranking.add(3L, 10L);
+
+        ranking.add(1L, -25L); // 5
+
+        assertThat(ranking.top(2)).containsExactly(
+                HotArticleScore.of(2L, 20L),
+                HotArticleScore.of(3L, 10L)
+        );
+    }
+
+    // 증가/감소가 섞인 이벤트에서 전체 점수를 정렬한 결과와 같아야 한다.
+    @Test
+    void topShouldMatchFullSortTest() {
+        Random random = new Random(0);
+        HotArticleDailyRanking ranking = new HotArticleDailyRanking(20);
+        Map<Long, Long> scores = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            long articleId = random.nextInt(2_000);
+            long scoreDelta = random.nextInt(10) == 0 ? -random.nextInt(5) - 1 : random.nextInt(5) + 1;
+            ranking.add(articleId, scoreDelta);
+            scores.merge(articleId, scoreDelta, Long::sum);
+
+            if (i % 10_000 == 0) {
+                assertThat(ranking.top(10)).isEqualTo(fullSort(scores, 10));
+            }
+        }
+        assertThat(ranking.top(20)).isEqualTo(fullSort(scores, 20));
+    }
+
+    // 후보에 있던 게시글들이 점수 감소로 빠져도, 후보 밖에 있던 게시글이 순서대로 올라온다.
+    @Test
+    void topAfterCandidatesDropOutTest() {
+        HotArticleDailyRanking ranking = new HotArticleDailyRanking(2);
+        for (long articleId = 1; articleId <= 10; articleId++) {
+            ranking.add(articleId, articleId * 10);
+        }
+
+        ranking.add(10L, -1_000L);
+        ranking.add(9L, -1_000L);
+        ranking.add(8L, -1_000L);
+
+        assertThat(ranking.top(2)).containsExactly(
+                HotArticleScore.of(7L, 70L),
+                HotArticleScore.of(6L, 60L)
+        );
+    }
+
+    // 감소가 잦아 후보를 자주 다시 만들어야 하는 경우에도 전체 정렬 결과와 같아야 한다.
+    @Test
+    void topShouldMatchFullSortWithFrequentDecreaseTest() {
+        Random random = new Random(1);
+        for (int capacity : new int[]{1, 2, 5}) {
+            HotArticleDailyRanking ranking = new HotArticleDailyRanking(capacity);
+            Map<Long, Long> scores = new HashMap<>();
+
+            for (int i = 0; i < 100_000; i++) {
+                long articleId = random.nextInt(50);
+                long scoreDelta = random.nextBoolean() ? -random.nextInt(50) - 1 : random.nextInt(50) + 1;
+                ranking.add(articleId, scoreDelta);
+                scores.merge(articleId, scoreDelta, Long::sum);
+
+                assertThat(ranking.top(capacity)).isEqualTo(fullSort(scores, capacity));
+            }
+        }
+    }
+
+    @Test
+    void invalidCapacityTest() {
+        assertThatThrownBy(() -> new HotArticleDailyRanking(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 이벤트 처리 비용 - 점수만 더할 때 / 상위 후보 순위까지 유지할 때,
+     * 상위 10개 조회 비용 - 유지한 순위에서 읽을 때 / 매번 전체를 정렬할 때 (ORDER BY 재계산에 해당)
+     */
+    @Test
+    void ingestionPerformanceTest() {
+        int eventCount = 5_000_000;
+        int articleCount = 100_000;
+        long[] articleIds = new long[eventCount];
+        long[] scoreDeltas = new long[eventCount];
+        Random random = new Random(0);
+        for (int i = 0; i < eventCount; i++) {
+            // 일부 게시글에 이벤트가 몰리도록
+            articleIds[i] = (long) (Math.pow(random.nextDouble(), 3) * articleCount);
+            scoreDeltas[i] = random.nextInt(20) == 0 ? -1 : random.nextInt(3) + 1;
+        }
+
+        for (int round = 0; round < 3; round++) {
+            Map<Long, Long> scores = new HashMap<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < eventCount; i++) {
+                scores.merge(articleIds[i], scoreDeltas[i], Long::sum);
+            }
+            long scoreOnlyTime = System.nanoTime() - start;
+
+            HotArticleDailyRanking ranking = new HotArticleDailyRanking(100);
+            start = System.nanoTime();
+            for (int i = 0; i < eventCount; i++) {
+                ranking.add(articleIds[i], scoreDeltas[i]);
+            }
+            long rankingTime = System.nanoTime() - start;
+
+            int readCount = 1_000;
+            start = System.nanoTime();
+            List<HotArticleScore> top = null;
+            for (int i = 0; i < readCount; i++) {
+                top = ranking.top(10);
+            }
+            long topReadTime = System.nanoTime() - start;
+
+            int fullSortCount = 20;
+            start = System.nanoTime();
+            List<HotArticleScore> sorted = null;
+            for (int i = 0; i < fullSortCount; i++) {
+                sorted = fullSort(scores, 10);
+            }
+            long fullSortTime = System.nanoTime() - start;
+
+            assertThat(top).isEqualTo(sorted);
+            System.out.println(("score only = %d events/sec, with ranking = %d events/sec (%d ns/event), " +
+                    "top10 read = %d ns, full sort = %d ns").formatted(
+                    eventCount * 1_000_000_000L / scoreOnlyTime,
+                    eventCount * 1_000_000_000L / rankingTime,
+                    rankingTime / eventCount,
+                    topReadTime / readCount,
+                    fullSortTime / fullSortCount
+            ));
+        }
+    }
+
+    private List<HotArticleScore> fullSort(Map<Long, Long> scores, int limit) {
+        return scores.entrySet().stream()
+                .map(entry -> HotArticleScore.of(entry.getKey(), entry.getValue()))
+                .sorted(HotArticleScore.RANKING_ORDER)
+                .limit(limit)
+                .toList();
+    }
+}
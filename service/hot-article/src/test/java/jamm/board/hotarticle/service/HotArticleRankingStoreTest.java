@@ -0,0 +1,140 @@
+package jamm.board.hotarticle.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HotArticleRankingStoreTest {
+
+    LocalDate day1 = LocalDate.of(2024, 12, 31);
+
+    @Test
+    void freezeTest() {
+        //given
+        AtomicReference<LocalDate> today = new AtomicReference<>(day1);
+        HotArticleRankingStore store = new HotArticleRankingStore(3, 7, today::get);
+        store.add(day1, 1L, 10L);
+        store.add(day1, 2L, 20L);
+        List<HotArticleScore> live = store.top(day1, 10);
+
+        //when - 자정이 지나고 고정
+        today.set(day1.plusDays(1));
+        assertThat(store.add(day1, 3L, 5L)).isTrue(); // 고정 전에 도착한 전날 이벤트는 반영된다.
+        store.freezeAndEvict();
+
+        //then
+        assertThat(store.liveDays()).isZero();
+        assertThat(store.snapshotDays()).isEqualTo(1);
+        assertThat(store.top(day1, 10)).containsExactly(
+                HotArticleScore.of(2L, 20L),
+                HotArticleScore.of(1L, 10L),
+                HotArticleScore.of(3L, 5L)
+        );
+        assertThat(store.top(day1, 2)).isEqualTo(live);
+
+        // 고정된 날짜의 이벤트는 반영되지 않는다.
+        assertThat(store.add(day1, 4L, 100L)).isFalse();
+        assertThat(store.top(day1, 10)).extracting(HotArticleScore::getArticleId).doesNotContain(4L);
+
+        // 오늘은 계속 반영된다.
+        assertThat(store.add(day1.plusDays(1), 4L, 100L)).isTrue();
+        assertThat(store.top(day1.plusDays(1), 10)).containsExactly(HotArticleScore.of(4L, 100L));
+    }
+
+    @Test
+    void evictTest() {
+        //given
+        AtomicReference<LocalDate> today = new AtomicReference<>(day1);
+        HotArticleRankingStore store = new HotArticleRankingStore(10, 2, today::get);
+
+        //when - 10일 동안 매일 이벤트를 넣고 자정마다 고정
+        for (int day = 0; day < 10; day++) {
+            store.add(today.get(), 1L, 1L);
+            today.set(today.get().plusDays(1));
+            store.freezeAndEvict();
+        }
+
+        //then - 어제, 그제만 남는다.
+        assertThat(store.snapshotDays()).isEqualTo(2);
+        LocalDate current = today.get();
+        assertThat(store.top(current.minusDays(1), 10)).hasSize(1);
+        assertThat(store.top(current.minusDays(2), 10)).hasSize(1);
+        assertThat(store.top(current.minusDays(3), 10)).isEmpty();
+        assertThat(store.add(current.minusDays(5), 1L, 1L)).isFalse();
+    }
+
+    @Test
+    void freezeIsIdempotentTest() {
+        AtomicReference<LocalDate> today = new AtomicReference<>(day1);
+        HotArticleRankingStore store = new HotArticleRankingStore(10, 2, today::get);
+        store.add(day1, 1L, 1L);
+        today.set(day1.plusDays(1));
+
+        store.freezeAndEvict();
+        store.freezeAndEvict();
+
+        assertThat(store.top(day1, 10)).containsExactly(HotArticleScore.of(1L, 1L));
+    }
+
+    // 오늘 이후 날짜는 고정되지 않은 채 쌓이기만 하므로 받지 않는다.
+    @Test
+    void futureDateTest() {
+        AtomicReference<LocalDate> today = new AtomicReference<>(day1);
+        HotArticleRankingStore store = new HotArticleRankingStore(10, 2, today::get);
+
+        assertThatThrownBy(() -> store.add(day1.plusDays(1), 1L, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(store.liveDays()).isZero();
+    }
+
+    /**
+     * 보관 일수별 heap 사용량 - 진행 중인 하루(게시글 10만 개) vs 고정된 하루(상위 100개)
+     */
+    @Test
+    void heapPerRetainedDayTest() {
+        int capacity = 100;
+        int articleCount = 100_000;
+        int retentionDays = 365;
+        AtomicReference<LocalDate> today = new AtomicReference<>(day1);
+        HotArticleRankingStore store = new HotArticleRankingStore(capacity, retentionDays, today::get);
+        Random random = new Random(0);
+
+        long before = usedMemory();
+        HotArticleDailyRanking live = new HotArticleDailyRanking(capacity);
+        for (int i = 0; i < articleCount; i++) {
+            live.add(i, random.nextInt(1000) + 1);
+        }
+        long liveBytes = usedMemory() - before;
+
+        before = usedMemory();
+        for (int day = 0; day < retentionDays; day++) {
+            for (int i = 0; i < articleCount / 100; i++) {
+                store.add(today.get(), random.nextInt(articleCount), random.nextInt(1000) + 1);
+            }
+            today.set(today.get().plusDays(1));
+            store.freezeAndEvict();
+        }
+        long snapshotBytes = usedMemory() - before;
+
+        assertThat(store.snapshotDays()).isEqualTo(retentionDays);
+        assertThat(store.liveDays()).isZero();
+        System.out.println("live day = %d bytes, frozen day = %d bytes (measured), %d bytes (estimated)".formatted(
+                liveBytes,
+                snapshotBytes / retentionDays,
+                store.snapshotMemoryBytes() / retentionDays
+        ));
+        assertThat(live.size()).isEqualTo(articleCount);
+    }
+
+    private long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,27 @@
+package jamm.board.hotarticle.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HotArticleScoreCalculatorTest {
+
+    HotArticleScoreCalculator calculator = new HotArticleScoreCalculator(3, 2, 1);
+
+    @Test
+    void calculateTest() {
+        assertThat(calculator.calculate(HotArticleEventType.LIKE, 2L)).isEqualTo(6L);
+        assertThat(calculator.calculate(HotArticleEventType.COMMENT, -1L)).isEqualTo(-2L);
+        assertThat(calculator.calculate(HotArticleEventType.VIEW, 5L)).isEqualTo(5L);
+    }
+
+    // type이 없거나 점수가 long 범위를 넘으면 NPE/overflow 대신 잘못된 요청으로 실패한다.
+    @Test
+    void invalidEventTest() {
+        assertThatThrownBy(() -> calculator.calculate(null, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> calculator.calculate(HotArticleEventType.LIKE, Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
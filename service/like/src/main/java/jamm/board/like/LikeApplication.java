@@ -1,9 +1,14 @@
 package jamm.board.like;
 
+import kuke.board.common.snowflake.IdGeneratorConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling
 @SpringBootApplication
+@Import(IdGeneratorConfig.class)
 public class LikeApplication {
     public static void main(String[] args) {
         SpringApplication.run(LikeApplication.class, args);
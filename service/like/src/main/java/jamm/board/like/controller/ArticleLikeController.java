@@ -0,0 +1,56 @@
+package jamm.board.like.controller;
+
+import jamm.board.like.service.ArticleLikeService;
+import jamm.board.like.service.response.ArticleLikeResponse;
+import jamm.board.like.service.response.ArticleLikeStatusResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class ArticleLikeController {
+
+    private final ArticleLikeService articleLikeService;
+
+    @GetMapping("/v1/article-likes/articles/{articleId}/users/{userId}")
+    public ArticleLikeResponse read(
+            @PathVariable("articleId") Long articleId,
+            @PathVariable("userId") Long userId
+    ) {
+        return articleLikeService.read(articleId, userId);
+    }
+
+    @PostMapping("/v1/article-likes/articles/{articleId}/users/{userId}")
+    public Boolean like(
+            @PathVariable("articleId") Long articleId,
+            @PathVariable("userId") Long userId
+    ) {
+        return articleLikeService.like(articleId, userId);
+    }
+
+    @DeleteMapping("/v1/article-likes/articles/{articleId}/users/{userId}")
+    public Boolean unlike(
+            @PathVariable("articleId") Long articleId,
+            @PathVariable("userId") Long userId
+    ) {
+        return articleLikeService.unlike(articleId, userId);
+    }
+
+    @GetMapping("/v1/article-likes/articles/{articleId}/count")
+    public Long count(@PathVariable("articleId") Long articleId) {
+        return articleLikeService.count(articleId);
+    }
+
+    /**
+     * 게시글 목록의 좋아요 여부와 좋아요 수 - /v1/article-likes/batch?userId=1&articleIds=1,2,3
+     */
+    @GetMapping("/v1/article-likes/batch")
+    public List<ArticleLikeStatusResponse> readAll(
+            @RequestParam("userId") Long userId,
+            @RequestParam("articleIds") List<Long> articleIds
+    ) {
+        return articleLikeService.readAll(userId, articleIds);
+    }
+}
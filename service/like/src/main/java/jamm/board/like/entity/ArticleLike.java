@@ -0,0 +1,41 @@
+package jamm.board.like.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Table(
+        name = "article_like",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_article_id_user_id",
+                columnNames = {"article_id", "user_id"}
+        )
+)
+@Getter
+@Entity
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleLike {
+
+    @Id
+    private Long articleLikeId;
+    private Long articleId;
+    private Long userId;
+    private LocalDateTime createdAt;
+
+    public static ArticleLike create(Long articleLikeId, Long articleId, Long userId) {
+        ArticleLike articleLike = new ArticleLike();
+        articleLike.articleLikeId = articleLikeId;
+        articleLike.articleId = articleId;
+        articleLike.userId = userId;
+        articleLike.createdAt = LocalDateTime.now();
+        return articleLike;
+    }
+}
@@ -0,0 +1,32 @@
+package jamm.board.like.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좋아요 수 변경 로그 (+1 / -1) - insert만 하고, ArticleLikeCountDeltaAggregator가 모아서 article_like_count에 반영한다.
+ */
+@Table(
+        name = "article_like_count_delta",
+        indexes = @Index(name = "idx_article_id", columnList = "article_id")
+)
+@Getter
+@Entity
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleLikeCountDelta {
+
+    @Id
+    private Long deltaId;
+    private Long articleId;
+    private Long delta;
+    private LocalDateTime createdAt;
+}
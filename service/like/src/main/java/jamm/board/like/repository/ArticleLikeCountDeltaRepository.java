@@ -0,0 +1,63 @@
+package jamm.board.like.repository;
+
+import jamm.board.like.entity.ArticleLikeCountDelta;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArticleLikeCountDeltaRepository extends JpaRepository<ArticleLikeCountDelta, Long> {
+
+    /**
+     * 변경분 append - id를 직접 넣으므로 save(merge 전 select) 대신 바로 insert 한다.
+     */
+    @Query(
+            value = "insert into article_like_count_delta (delta_id, article_id, delta, created_at) " +
+                    "values (:deltaId, :articleId, :delta, now())",
+            nativeQuery = true
+    )
+    @Modifying
+    int insert(@Param("deltaId") Long deltaId, @Param("articleId") Long articleId, @Param("delta") Long delta);
+
+    /**
+     * 반영할 변경분 - 잠근 row만 반영하고 지우므로, 읽은 뒤 커밋된 변경분이 누락되지 않는다.
+     * 다른 인스턴스의 집계와는 skip locked로 서로 다른 row를 가져간다.
+     */
+    @Query(
+            value = "select delta_id, article_id, delta, created_at from article_like_count_delta " +
+                    "order by delta_id asc limit :limit " +
+                    "for update skip locked",
+            nativeQuery = true
+    )
+    List<ArticleLikeCountDelta> findAllForAggregation(@Param("limit") Long limit);
+
+    /**
+     * 아직 반영되지 않은 변경분의 합
+     */
+    @Query(
+            value = "select coalesce(sum(delta), 0) from article_like_count_delta where article_id = :articleId",
+            nativeQuery = true
+    )
+    Long sumByArticleId(@Param("articleId") Long articleId);
+
+    /**
+     * 여러 게시글의 아직 반영되지 않은 변경분 합 - 변경분이 없는 게시글은 빠진다.
+     */
+    @Query(
+            value = "select article_id as articleId, sum(delta) as delta from article_like_count_delta " +
+                    "where article_id in (:articleIds) group by article_id",
+            nativeQuery = true
+    )
+    List<ArticleLikeCountDeltaSum> sumAllByArticleIds(@Param("articleIds") Collection<Long> articleIds);
+
+    interface ArticleLikeCountDeltaSum {
+        Long getArticleId();
+
+        Long getDelta();
+    }
+}
@@ -0,0 +1,44 @@
+package jamm.board.like.repository;
+
+import jakarta.persistence.LockModeType;
+import jamm.board.like.entity.ArticleLikeCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ArticleLikeCountRepository extends JpaRepository<ArticleLikeCount, Long> {
+
+    /**
+     * select ... for update - 트랜잭션이 끝날 때까지 다른 좋아요/취소는 이 row에서 대기한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from ArticleLikeCount c where c.articleId = :articleId")
+    Optional<ArticleLikeCount> findLockedByArticleId(@Param("articleId") Long articleId);
+
+    /**
+     * 첫 좋아요가 동시에 들어와도 row가 하나만 생기도록 insert ignore로 만든다.
+     */
+    @Query(
+            value = "insert ignore into article_like_count (article_id, like_count, version) values (:articleId, 0, 0)",
+            nativeQuery = true
+    )
+    @Modifying
+    int createIfAbsent(@Param("articleId") Long articleId);
+
+    /**
+     * 모아둔 변경분 반영 - row가 없으면 만든다.
+     */
+    @Query(
+            value = "insert into article_like_count (article_id, like_count, version) values (:articleId, :delta, 0) " +
+                    "on duplicate key update like_count = like_count + :delta, version = version + 1",
+            nativeQuery = true
+    )
+    @Modifying
+    int increase(@Param("articleId") Long articleId, @Param("delta") Long delta);
+}
@@ -0,0 +1,49 @@
+package jamm.board.like.repository;
+
+import jamm.board.like.entity.ArticleLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArticleLikeRepository extends JpaRepository<ArticleLike, Long> {
+
+    Optional<ArticleLike> findByArticleIdAndUserId(Long articleId, Long userId);
+
+    /**
+     * articleIds 중 userId가 좋아요한 게시글 - (article_id, user_id) unique key로 게시글마다 한 번씩 찾는다.
+     */
+    @Query("select a.articleId from ArticleLike a where a.userId = :userId and a.articleId in :articleIds")
+    List<Long> findLikedArticleIds(@Param("userId") Long userId, @Param("articleIds") Collection<Long> articleIds);
+
+    /**
+     * 좋아요 - (article_id, user_id) unique key로 한 번만 들어간다. 새로 들어갔으면 1, 이미 있으면 0
+     */
+    @Query(
+            value = "insert ignore into article_like (article_like_id, article_id, user_id, created_at) " +
+                    "values (:articleLikeId, :articleId, :userId, now())",
+            nativeQuery = true
+    )
+    @Modifying
+    int insertIfAbsent(
+            @Param("articleLikeId") Long articleLikeId,
+            @Param("articleId") Long articleId,
+            @Param("userId") Long userId
+    );
+
+    /**
+     * 좋아요 취소 - 삭제했으면 1, 좋아요가 없었으면 0
+     */
+    @Query(
+            value = "delete from article_like where article_id = :articleId and user_id = :userId",
+            nativeQuery = true
+    )
+    @Modifying
+    int deleteByArticleIdAndUserId(@Param("articleId") Long articleId, @Param("userId") Long userId);
+}
@@ -0,0 +1,49 @@
+package jamm.board.like.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 게시글 목록용 좋아요 수 캐시 - 목록 페이지마다 같은 게시글의 좋아요 수를 다시 읽지 않는다.
+ * - 이 인스턴스에서 좋아요/취소가 반영되면 바로 invalidate 한다.
+ * - 다른 인스턴스의 좋아요는 TTL 동안 반영되지 않을 수 있어서 TTL을 짧게 둔다.
+ */
+@Component
+public class ArticleLikeCountCache {
+    private static final long MAX_ARTICLES = 100_000L;
+
+    private final Cache<Long, Long> likeCounts;
+
+    public ArticleLikeCountCache(@Value("${like.count-cache.expire-after-write-millis:1000}") long expireAfterWriteMillis) {
+        this.likeCounts = Caffeine.newBuilder()
+                .maximumSize(MAX_ARTICLES)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMillis))
+                .build();
+    }
+
+    /**
+     * 캐시에 없는 게시글만 모아서 loader를 한 번 호출한다. loader 결과에 없는 게시글은 0으로 캐시한다.
+     */
+    public Map<Long, Long> getAll(Collection<Long> articleIds, Function<Set<Long>, Map<Long, Long>> loader) {
+        return likeCounts.getAll(articleIds, missingArticleIds -> {
+            Set<Long> keys = Set.copyOf(missingArticleIds);
+            Map<Long, Long> loaded = loader.apply(keys);
+            Map<Long, Long> counts = new HashMap<>(keys.size());
+            keys.forEach(articleId -> counts.put(articleId, loaded.getOrDefault(articleId, 0L)));
+            return counts;
+        });
+    }
+
+    public void invalidate(Long articleId) {
+        likeCounts.invalidate(articleId);
+    }
+}
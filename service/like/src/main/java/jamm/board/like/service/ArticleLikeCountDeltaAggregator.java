@@ -0,0 +1,70 @@
+package jamm.board.like.service;
+
+import jamm.board.like.entity.ArticleLikeCountDelta;
+import jamm.board.like.repository.ArticleLikeCountDeltaRepository;
+import jamm.board.like.repository.ArticleLikeCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * DELTA_LOG 방식의 변경분을 게시글별로 합쳐 article_like_count에 반영하고, 반영한 변경분은 지운다.
+ * 다른 방식으로 바꾼 뒤에 남은 변경분도 정리되도록 설정과 상관없이 실행한다.
+ */
+@Slf4j
+@Component
+public class ArticleLikeCountDeltaAggregator {
+    private final ArticleLikeCountRepository articleLikeCountRepository;
+    private final ArticleLikeCountDeltaRepository articleLikeCountDeltaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long batchSize;
+
+    public ArticleLikeCountDeltaAggregator(
+            ArticleLikeCountRepository articleLikeCountRepository,
+            ArticleLikeCountDeltaRepository articleLikeCountDeltaRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${like.delta-log.aggregate-batch-size:1000}") long batchSize
+    ) {
+        this.articleLikeCountRepository = articleLikeCountRepository;
+        this.articleLikeCountDeltaRepository = articleLikeCountDeltaRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${like.delta-log.aggregate-interval-millis:1000}")
+    public void aggregate() {
+        int aggregated;
+        do {
+            aggregated = aggregateBatch();
+        } while (aggregated == batchSize);
+    }
+
+    /**
+     * 변경분 batchSize개를 한 트랜잭션에서 반영하고 지운다. 반영한 변경분 수를 반환한다.
+     */
+    int aggregateBatch() {
+        Integer aggregated = transactionTemplate.execute(status -> {
+            List<ArticleLikeCountDelta> deltas = articleLikeCountDeltaRepository.findAllForAggregation(batchSize);
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+            Map<Long, Long> sums = deltas.stream()
+                    .collect(Collectors.groupingBy(ArticleLikeCountDelta::getArticleId, Collectors.summingLong(ArticleLikeCountDelta::getDelta)));
+            sums.forEach((articleId, delta) -> {
+                if (delta != 0) {
+                    articleLikeCountRepository.increase(articleId, delta);
+                }
+            });
+            articleLikeCountDeltaRepository.deleteAllInBatch(deltas);
+            log.debug("[ArticleLikeCountDeltaAggregator.aggregateBatch] deltas={}, articles={}", deltas.size(), sums.size());
+            return deltas.size();
+        });
+        return aggregated == null ? 0 : aggregated;
+    }
+}
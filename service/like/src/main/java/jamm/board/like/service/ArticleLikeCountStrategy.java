@@ -0,0 +1,13 @@
+package jamm.board.like.service;
+
+/**
+ * 좋아요 수 갱신 방식 - like.count-strategy로 배포마다 고른다.
+ */
+public enum ArticleLikeCountStrategy {
+    // select ... for update로 row를 잠그고 갱신. 한 게시글에 몰리면 트랜잭션이 줄을 선다.
+    PESSIMISTIC_LOCK,
+    // version 비교로 갱신하고, 충돌하면 트랜잭션 전체를 다시 시도한다. 충돌이 적을 때 유리
+    OPTIMISTIC_LOCK,
+    // 변경분(+1/-1)만 insert 하고 주기적으로 모아서 반영한다. 쓰기 경합이 없고, 조회 시 미반영분을 더한다.
+    DELTA_LOG
+}
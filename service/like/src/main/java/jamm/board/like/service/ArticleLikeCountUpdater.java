@@ -0,0 +1,23 @@
+package jamm.board.like.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+public interface ArticleLikeCountUpdater {
+
+    ArticleLikeCountStrategy strategy();
+
+    /**
+     * change(좋아요 insert/delete - 바뀐 row 수 반환)와 좋아요 수 갱신을 한 트랜잭션으로 실행한다.
+     * change가 아무것도 바꾸지 않았으면(이미 좋아요/이미 취소) 좋아요 수도 그대로 두고 false를 반환한다.
+     */
+    boolean apply(Long articleId, IntSupplier change, Long delta);
+
+    Long count(Long articleId);
+
+    /**
+     * 여러 게시글의 좋아요 수 - 게시글 수와 상관없이 정해진 횟수의 쿼리로 읽는다. 좋아요 수 row가 없는 게시글은 빠진다.
+     */
+    Map<Long, Long> counts(Collection<Long> articleIds);
+}
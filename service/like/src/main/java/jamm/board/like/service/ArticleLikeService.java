@@ -0,0 +1,116 @@
+package jamm.board.like.service;
+
+import jamm.board.like.repository.ArticleLikeRepository;
+import jamm.board.like.service.response.ArticleLikeResponse;
+import jamm.board.like.service.response.ArticleLikeStatusResponse;
+import kuke.board.common.snowflake.IdSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class ArticleLikeService {
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private final IdSupplier idSupplier;
+    private final ArticleLikeRepository articleLikeRepository;
+    private final Map<ArticleLikeCountStrategy, ArticleLikeCountUpdater> articleLikeCountUpdaters =
+            new EnumMap<>(ArticleLikeCountStrategy.class);
+    private final ArticleLikeCountStrategy strategy;
+    private final ArticleLikeCountCache articleLikeCountCache;
+
+    public ArticleLikeService(
+            IdSupplier idSupplier,
+            ArticleLikeRepository articleLikeRepository,
+            List<ArticleLikeCountUpdater> articleLikeCountUpdaters,
+            @Value("${like.count-strategy:PESSIMISTIC_LOCK}") ArticleLikeCountStrategy strategy,
+            ArticleLikeCountCache articleLikeCountCache
+    ) {
+        this.idSupplier = idSupplier;
+        this.articleLikeRepository = articleLikeRepository;
+        articleLikeCountUpdaters.forEach(updater -> this.articleLikeCountUpdaters.put(updater.strategy(), updater));
+        this.strategy = strategy;
+        this.articleLikeCountCache = articleLikeCountCache;
+    }
+
+    public ArticleLikeResponse read(Long articleId, Long userId) {
+        return articleLikeRepository.findByArticleIdAndUserId(articleId, userId)
+                .map(ArticleLikeResponse::from)
+                .orElseThrow();
+    }
+
+    /**
+     * 좋아요 - 같은 사용자가 여러 번 요청해도 한 번만 반영된다. 새로 반영되었으면 true
+     */
+    public boolean like(Long articleId, Long userId) {
+        return like(articleId, userId, strategy);
+    }
+
+    /**
+     * 좋아요 취소 - 좋아요가 없었으면 아무것도 바꾸지 않고 false
+     */
+    public boolean unlike(Long articleId, Long userId) {
+        return unlike(articleId, userId, strategy);
+    }
+
+    public Long count(Long articleId) {
+        return count(articleId, strategy);
+    }
+
+    /**
+     * 게시글 목록의 좋아요 여부와 좋아요 수 - 게시글 수와 상관없이 좋아요 여부는 IN 쿼리 한 번,
+     * 좋아요 수는 캐시에 없는 게시글만 모아서 한 번에 읽는다. articleIds 순서대로 반환한다.
+     */
+    public List<ArticleLikeStatusResponse> readAll(Long userId, List<Long> articleIds) {
+        if (articleIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batch size must be <= " + MAX_BATCH_SIZE + ": " + articleIds.size());
+        }
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> distinctArticleIds = new HashSet<>(articleIds);
+        Set<Long> likedArticleIds = new HashSet<>(articleLikeRepository.findLikedArticleIds(userId, distinctArticleIds));
+        ArticleLikeCountUpdater articleLikeCountUpdater = articleLikeCountUpdaters.get(strategy);
+        Map<Long, Long> likeCounts = articleLikeCountCache.getAll(distinctArticleIds, articleLikeCountUpdater::counts);
+        return articleIds.stream()
+                .map(articleId -> ArticleLikeStatusResponse.of(
+                        articleId,
+                        likedArticleIds.contains(articleId),
+                        likeCounts.get(articleId)
+                ))
+                .toList();
+    }
+
+    boolean like(Long articleId, Long userId, ArticleLikeCountStrategy strategy) {
+        boolean liked = articleLikeCountUpdaters.get(strategy).apply(
+                articleId,
+                () -> articleLikeRepository.insertIfAbsent(idSupplier.nextId(), articleId, userId),
+                1L
+        );
+        if (liked) {
+            articleLikeCountCache.invalidate(articleId);
+        }
+        return liked;
+    }
+
+    boolean unlike(Long articleId, Long userId, ArticleLikeCountStrategy strategy) {
+        boolean unliked = articleLikeCountUpdaters.get(strategy).apply(
+                articleId,
+                () -> articleLikeRepository.deleteByArticleIdAndUserId(articleId, userId),
+                -1L
+        );
+        if (unliked) {
+            articleLikeCountCache.invalidate(articleId);
+        }
+        return unliked;
+    }
+
+    Long count(Long articleId, ArticleLikeCountStrategy strategy) {
+        return articleLikeCountUpdaters.get(strategy).count(articleId);
+    }
+}
@@ -0,0 +1,64 @@
+package jamm.board.like.service;
+
+import jamm.board.like.entity.ArticleLikeCount;
+import jamm.board.like.repository.ArticleLikeCountDeltaRepository;
+import jamm.board.like.repository.ArticleLikeCountRepository;
+import kuke.board.common.snowflake.IdSupplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+@Component
+@RequiredArgsConstructor
+public class DeltaLogArticleLikeCountUpdater implements ArticleLikeCountUpdater {
+    private final IdSupplier idSupplier;
+    private final ArticleLikeCountRepository articleLikeCountRepository;
+    private final ArticleLikeCountDeltaRepository articleLikeCountDeltaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public ArticleLikeCountStrategy strategy() {
+        return ArticleLikeCountStrategy.DELTA_LOG;
+    }
+
+    @Override
+    public boolean apply(Long articleId, IntSupplier change, Long delta) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (change.getAsInt() == 0) {
+                return false;
+            }
+            articleLikeCountDeltaRepository.insert(idSupplier.nextId(), articleId, delta);
+            return true;
+        }));
+    }
+
+    /**
+     * 반영된 값 + 아직 반영되지 않은 변경분 - 집계와 겹쳐도 같은 스냅샷에서 읽도록 한 트랜잭션으로 읽는다.
+     */
+    @Override
+    public Long count(Long articleId) {
+        return transactionTemplate.execute(status -> {
+            Long likeCount = articleLikeCountRepository.findById(articleId)
+                    .map(ArticleLikeCount::getLikeCount)
+                    .orElse(0L);
+            return likeCount + articleLikeCountDeltaRepository.sumByArticleId(articleId);
+        });
+    }
+
+    @Override
+    public Map<Long, Long> counts(Collection<Long> articleIds) {
+        return transactionTemplate.execute(status -> {
+            Map<Long, Long> counts = new HashMap<>();
+            articleLikeCountRepository.findAllById(articleIds)
+                    .forEach(count -> counts.put(count.getArticleId(), count.getLikeCount()));
+            articleLikeCountDeltaRepository.sumAllByArticleIds(articleIds)
+                    .forEach(sum -> counts.merge(sum.getArticleId(), sum.getDelta(), Long::sum));
+            return counts;
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package jamm.board.like.service;
+
+import jamm.board.like.entity.ArticleLikeCount;
+import jamm.board.like.repository.ArticleLikeCountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+@Component
+public class OptimisticLockArticleLikeCountUpdater implements ArticleLikeCountUpdater {
+    private final ArticleLikeCountRepository articleLikeCountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+
+    public OptimisticLockArticleLikeCountUpdater(
+            ArticleLikeCountRepository articleLikeCountRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${like.optimistic-lock.max-attempts:10}") int maxAttempts
+    ) {
+        this.articleLikeCountRepository = articleLikeCountRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public ArticleLikeCountStrategy strategy() {
+        return ArticleLikeCountStrategy.OPTIMISTIC_LOCK;
+    }
+
+    @Override
+    public boolean apply(Long articleId, IntSupplier change, Long delta) {
+        // 트랜잭션 안에서 만들면 스냅샷에 보이지 않으므로 트랜잭션 밖에서 먼저 만든다.
+        if (!articleLikeCountRepository.existsById(articleId)) {
+            transactionTemplate.executeWithoutResult(status -> articleLikeCountRepository.createIfAbsent(articleId));
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                    if (change.getAsInt() == 0) {
+                        return false;
+                    }
+                    ArticleLikeCount articleLikeCount = articleLikeCountRepository.findById(articleId).orElseThrow();
+                    articleLikeCount.add(delta);
+                    return true;
+                }));
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    // 같은 순간에 충돌한 트랜잭션들이 다시 같이 충돌하지 않도록 지수 + 지터로 기다린다.
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1L, 1L << Math.min(attempt + 1, 7)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while retrying", e);
+        }
+    }
+
+    @Override
+    public Long count(Long articleId) {
+        return articleLikeCountRepository.findById(articleId)
+                .map(ArticleLikeCount::getLikeCount)
+                .orElse(0L);
+    }
+
+    @Override
+    public Map<Long, Long> counts(Collection<Long> articleIds) {
+        return articleLikeCountRepository.findAllById(articleIds).stream()
+                .collect(Collectors.toMap(ArticleLikeCount::getArticleId, ArticleLikeCount::getLikeCount));
+    }
+}
@@ -0,0 +1,53 @@
+package jamm.board.like.service;
+
+import jamm.board.like.entity.ArticleLikeCount;
+import jamm.board.like.repository.ArticleLikeCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class PessimisticLockArticleLikeCountUpdater implements ArticleLikeCountUpdater {
+    private final ArticleLikeCountRepository articleLikeCountRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public ArticleLikeCountStrategy strategy() {
+        return ArticleLikeCountStrategy.PESSIMISTIC_LOCK;
+    }
+
+    @Override
+    public boolean apply(Long articleId, IntSupplier change, Long delta) {
+        // row가 없을 때 잠금 조회 후 insert 하면 gap lock끼리 deadlock이 나므로, row는 트랜잭션 밖에서 먼저 만든다.
+        if (!articleLikeCountRepository.existsById(articleId)) {
+            transactionTemplate.executeWithoutResult(status -> articleLikeCountRepository.createIfAbsent(articleId));
+        }
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (change.getAsInt() == 0) {
+                return false;
+            }
+            ArticleLikeCount articleLikeCount = articleLikeCountRepository.findLockedByArticleId(articleId).orElseThrow();
+            articleLikeCount.add(delta);
+            return true;
+        }));
+    }
+
+    @Override
+    public Long count(Long articleId) {
+        return articleLikeCountRepository.findById(articleId)
+                .map(ArticleLikeCount::getLikeCount)
+                .orElse(0L);
+    }
+
+    @Override
+    public Map<Long, Long> counts(Collection<Long> articleIds) {
+        return articleLikeCountRepository.findAllById(articleIds).stream()
+                .collect(Collectors.toMap(ArticleLikeCount::getArticleId, ArticleLikeCount::getLikeCount));
+    }
+}
@@ -0,0 +1,20 @@
+package jamm.board.like.service.response;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+public class ArticleLikeStatusResponse {
+    private Long articleId;
+    private Boolean liked;
+    private Long likeCount;
+
+    public static ArticleLikeStatusResponse of(Long articleId, Boolean liked, Long likeCount) {
+        ArticleLikeStatusResponse response = new ArticleLikeStatusResponse();
+        response.articleId = articleId;
+        response.liked = liked;
+        response.likeCount = likeCount;
+        return response;
+    }
+}
@@ -0,0 +1,59 @@
+package jamm.board.like.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.Map;
+
+public class LikeApiTest {
+
+    RestClient restClient = RestClient.create("http://localhost:9002");
+
+    @Test
+    void likeAndUnlikeTest() {
+        Long articleId = 9999L;
+
+        System.out.println("like = " + like(articleId, 1L));
+        System.out.println("like again = " + like(articleId, 1L));
+        System.out.println("like = " + like(articleId, 2L));
+        System.out.println("count = " + count(articleId));
+
+        System.out.println("unlike = " + unlike(articleId, 1L));
+        System.out.println("unlike again = " + unlike(articleId, 1L));
+        System.out.println("count = " + count(articleId));
+    }
+
+    @Test
+    void readAllTest() {
+        List<Map<String, Object>> response = restClient.get()
+                .uri("/v1/article-likes/batch?userId=2&articleIds=9999,9998,9997")
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<Map<String, Object>>>() {
+                });
+
+        response.forEach(status -> System.out.println("status = " + status));
+    }
+
+    Boolean like(Long articleId, Long userId) {
+        return restClient.post()
+                .uri("/v1/article-likes/articles/{articleId}/users/{userId}", articleId, userId)
+                .retrieve()
+                .body(Boolean.class);
+    }
+
+    Boolean unlike(Long articleId, Long userId) {
+        return restClient.delete()
+                .uri("/v1/article-likes/articles/{articleId}/users/{userId}", articleId, userId)
+                .retrieve()
+                .body(Boolean.class);
+    }
+
+    Long count(Long articleId) {
+        return restClient.get()
+                .uri("/v1/article-likes/articles/{articleId}/count", articleId)
+                .retrieve()
+                .body(Long.class);
+    }
+}
@@ -0,0 +1,80 @@
+package jamm.board.like.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 게시글에 여러 사용자가 동시에 좋아요 - 방식별 처리량, p50/p99, 최종 좋아요 수
+ * (실행 중인 MySQL 필요)
+ */
+@SpringBootTest
+class ArticleLikeLoadTest {
+
+    @Autowired
+    ArticleLikeService articleLikeService;
+
+    @Autowired
+    ArticleLikeCountDeltaAggregator articleLikeCountDeltaAggregator;
+
+    @Test
+    void loadTest() throws InterruptedException {
+        for (ArticleLikeCountStrategy strategy : ArticleLikeCountStrategy.values()) {
+            run(strategy, 50, 3000);
+        }
+    }
+
+    private void run(ArticleLikeCountStrategy strategy, int threadCount, int userCount) throws InterruptedException {
+        Long articleId = System.nanoTime();
+        long[] latencies = new long[userCount];
+        AtomicInteger failures = new AtomicInteger();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(userCount);
+        long start = System.nanoTime();
+        for (int i = 0; i < userCount; i++) {
+            int index = i;
+            executorService.execute(() -> {
+                long requestStart = System.nanoTime();
+                try {
+                    articleLikeService.like(articleId, (long) index, strategy);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    latencies[index] = System.nanoTime() - requestStart;
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long time = System.nanoTime() - start;
+        executorService.shutdown();
+
+        // 같은 사용자가 다시 좋아요 해도 반영되지 않아야 한다.
+        assertThat(articleLikeService.like(articleId, 0L, strategy)).isFalse();
+
+        Long countBeforeAggregation = articleLikeService.count(articleId, strategy);
+        articleLikeCountDeltaAggregator.aggregate();
+        Long count = articleLikeService.count(articleId, strategy);
+
+        Arrays.sort(latencies);
+        System.out.println("[%s] throughput = %d/sec, p50 = %dms, p99 = %dms, failures = %d, count = %d".formatted(
+                strategy,
+                userCount * 1_000_000_000L / time,
+                latencies[userCount / 2] / 1_000_000,
+                latencies[(int) (userCount * 0.99)] / 1_000_000,
+                failures.get(),
+                count
+        ));
+        assertThat(countBeforeAggregation).isEqualTo(count);
+        assertThat(count).isEqualTo((long) userCount - failures.get());
+    }
+}
@@ -0,0 +1,110 @@
+package jamm.board.like.service;
+
+import jamm.board.like.repository.ArticleLikeRepository;
+import jamm.board.like.service.response.ArticleLikeStatusResponse;
+import kuke.board.common.snowflake.IdSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleLikeServiceTest {
+
+    ArticleLikeService articleLikeService;
+
+    @Mock
+    IdSupplier idSupplier;
+
+    @Mock
+    ArticleLikeRepository articleLikeRepository;
+
+    @Mock
+    ArticleLikeCountUpdater articleLikeCountUpdater;
+
+    @BeforeEach
+    void setUp() {
+        given(articleLikeCountUpdater.strategy()).willReturn(ArticleLikeCountStrategy.PESSIMISTIC_LOCK);
+        articleLikeService = new ArticleLikeService(
+                idSupplier,
+                articleLikeRepository,
+                List.of(articleLikeCountUpdater),
+                ArticleLikeCountStrategy.PESSIMISTIC_LOCK,
+                new ArticleLikeCountCache(60_000L)
+        );
+    }
+
+    @Test
+    @DisplayName("게시글 수와 상관없이 좋아요 여부 쿼리 한 번, 좋아요 수 조회 한 번으로 응답한다.")
+    void readAllShouldUseConstantRoundTrips() {
+        for (int size : List.of(1, 20, 50, 100)) {
+            //given - 매번 캐시에 없는 게시글
+            List<Long> articleIds = LongStream.range(0, size).map(i -> size * 1000L + i).boxed().toList();
+            given(articleLikeRepository.findLikedArticleIds(anyLong(), anyCollection()))
+                    .willReturn(articleIds.subList(0, size / 2));
+            given(articleLikeCountUpdater.counts(anyCollection())).willReturn(Map.of(articleIds.getFirst(), 7L));
+
+            //when
+            List<ArticleLikeStatusResponse> responses = articleLikeService.readAll(1L, articleIds);
+
+            //then
+            assertThat(responses).extracting(ArticleLikeStatusResponse::getArticleId).isEqualTo(articleIds);
+            assertThat(responses.getFirst().getLikeCount()).isEqualTo(7L);
+            assertThat(responses.getLast().getLikeCount()).isEqualTo(size == 1 ? 7L : 0L);
+            assertThat(responses.stream().filter(ArticleLikeStatusResponse::getLiked).count()).isEqualTo(size / 2);
+            verify(articleLikeRepository, times(1)).findLikedArticleIds(anyLong(), anyCollection());
+            verify(articleLikeCountUpdater, times(1)).counts(anyCollection());
+            clearInvocations(articleLikeRepository, articleLikeCountUpdater);
+        }
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 좋아요 수는 다시 읽지 않고, 좋아요가 반영되면 그 게시글만 다시 읽는다.")
+    void readAllShouldReadOnlyMissingCounts() {
+        //given
+        given(articleLikeRepository.findLikedArticleIds(anyLong(), anyCollection())).willReturn(List.of());
+        given(articleLikeCountUpdater.counts(anyCollection())).willReturn(Map.of());
+        articleLikeService.readAll(1L, List.of(1L, 2L, 3L));
+        clearInvocations(articleLikeCountUpdater);
+
+        //when
+        articleLikeService.readAll(1L, List.of(1L, 2L, 3L));
+
+        //then
+        verify(articleLikeCountUpdater, never()).counts(anyCollection());
+
+        //given - 게시글 2에 좋아요
+        given(articleLikeCountUpdater.apply(eq(2L), any(), eq(1L))).willReturn(true);
+        articleLikeService.like(2L, 1L);
+
+        //when
+        articleLikeService.readAll(1L, List.of(1L, 2L, 3L));
+
+        //then
+        verify(articleLikeCountUpdater).counts(argThat(articleIds -> articleIds.size() == 1 && articleIds.contains(2L)));
+    }
+
+    @Test
+    @DisplayName("한 번에 조회할 수 있는 게시글 수를 넘으면 실패한다.")
+    void readAllShouldRejectTooManyArticles() {
+        List<Long> articleIds = LongStream.range(0, 101).boxed().toList();
+
+        assertThatThrownBy(() -> articleLikeService.readAll(1L, articleIds))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(articleLikeRepository, never()).findLikedArticleIds(anyLong(), anyCollection());
+    }
+}
@@ -0,0 +1,99 @@
+package jamm.board.like.service;
+
+import jamm.board.like.entity.ArticleLikeCount;
+import jamm.board.like.repository.ArticleLikeCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticLockArticleLikeCountUpdaterTest {
+
+    @Mock
+    ArticleLikeCountRepository articleLikeCountRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    OptimisticLockArticleLikeCountUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        updater = new OptimisticLockArticleLikeCountUpdater(articleLikeCountRepository, transactionTemplate, 3);
+        given(articleLikeCountRepository.existsById(1L)).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("이미 좋아요한 사용자면 좋아요 수를 건드리지 않는다.")
+    void applyShouldNotChangeCountIfAlreadyLiked() {
+        //given
+        givenTransactionRuns();
+
+        //when
+        boolean applied = updater.apply(1L, () -> 0, 1L);
+
+        //then
+        assertThat(applied).isFalse();
+        verify(articleLikeCountRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("version 충돌이면 트랜잭션 전체를 다시 실행한다.")
+    void applyShouldRetryOnOptimisticLockFailure() {
+        //given
+        ArticleLikeCount articleLikeCount = ArticleLikeCount.init(1L, 0L);
+        given(articleLikeCountRepository.findById(1L)).willReturn(Optional.of(articleLikeCount));
+        AtomicInteger attempts = new AtomicInteger();
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            Object result = invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            if (attempts.incrementAndGet() == 1) {
+                throw new ObjectOptimisticLockingFailureException(ArticleLikeCount.class, 1L);
+            }
+            return result;
+        });
+        AtomicInteger changes = new AtomicInteger();
+
+        //when
+        boolean applied = updater.apply(1L, changes::incrementAndGet, 1L);
+
+        //then
+        assertThat(applied).isTrue();
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(changes.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 충돌하면 실패한다.")
+    void applyShouldFailAfterMaxAttempts() {
+        //given
+        given(transactionTemplate.execute(any()))
+                .willThrow(new ObjectOptimisticLockingFailureException(ArticleLikeCount.class, 1L));
+
+        //when, then
+        assertThatThrownBy(() -> updater.apply(1L, () -> 1, 1L))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    private void givenTransactionRuns() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+}
@@ -0,0 +1,41 @@
+package jamm.board.view.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * 조회수 증가분을 JDBC batch upsert로 한 번에 반영한다.
+ * (MySQL은 rewriteBatchedStatements=true 일 때 multi-row insert로 보낸다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleViewCountBulkRepository {
+    private static final String UPSERT_SQL =
+            "insert into article_view_count (article_id, view_count) values (?, ?) " +
+            "on duplicate key update view_count = view_count + values(view_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * articleIds[i]의 조회수에 deltas[i]를 더한다. (i < size)
+     */
+    public void increaseAll(long[] articleIds, long[] deltas, int size) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, articleIds[i]);
+                ps.setLong(2, deltas[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        });
+    }
+}
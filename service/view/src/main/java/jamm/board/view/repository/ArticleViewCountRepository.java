@@ -0,0 +1,9 @@
+package jamm.board.view.repository;
+
+import jamm.board.view.entity.ArticleViewCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArticleViewCountRepository extends JpaRepository<ArticleViewCount, Long> {
+}
@@ -0,0 +1,140 @@
+package jamm.board.view.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 아직 DB에 반영되지 않은 조회수 증가분.
+ * - LongAdder처럼 스레드별로 stripe를 나누고, stripe마다 박싱 없는 long -> long 맵에 누적한다.
+ *   인기 게시글 하나에 증가가 몰려도 스레드끼리 같은 lock을 다투지 않는다.
+ * - flush는 모든 stripe를 비워 한 번에 DB에 쓴다. flush 중인 증가분은 DB 반영이 끝날 때까지 조회에 포함한다.
+ */
+@Component
+public class ArticleViewCountBuffer {
+    private static final int MAX_COUNT_ATTEMPTS = 3;
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    // 증가는 이 lock을 잡지 않는다. 조회(read)와 flush(write)가 DB 값과 증가분을 같은 시점으로 보기 위한 lock
+    private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private LongLongHashMap flushing = new LongLongHashMap();
+    // flush가 끝날 때마다(성공/실패 모두) write lock 안에서 증가한다.
+    private volatile long flushGeneration;
+
+    public ArticleViewCountBuffer() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    ArticleViewCountBuffer(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        mask = size - 1;
+    }
+
+    public void increase(long articleId) {
+        add(articleId, 1L);
+    }
+
+    public void add(long articleId, long delta) {
+        Stripe stripe = stripe();
+        synchronized (stripe) {
+            stripe.counts.add(articleId, delta);
+        }
+    }
+
+    /**
+     * DB에 반영된 값 + 아직 반영되지 않은 증가분
+     * - DB 조회는 lock 밖에서 하고, 증가분만 lock 안에서 읽는다.
+     * - DB 조회 중에 flush가 끝났으면(flushGeneration이 바뀌었으면) 두 값의 시점이 달라서 다시 읽는다.
+     *   계속 어긋나면 마지막 한 번은 lock 안에서 DB를 조회한다.
+     */
+    public long count(long articleId, LongUnaryOperator persistedCount) {
+        for (int attempt = 0; attempt < MAX_COUNT_ATTEMPTS; attempt++) {
+            long generation = flushGeneration;
+            long persisted = persistedCount.applyAsLong(articleId);
+            flushLock.readLock().lock();
+            try {
+                if (generation == flushGeneration) {
+                    return persisted + unflushed(articleId);
+                }
+            } finally {
+                flushLock.readLock().unlock();
+            }
+        }
+        flushLock.readLock().lock();
+        try {
+            return persistedCount.applyAsLong(articleId) + unflushed(articleId);
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    long unflushed(long articleId) {
+        long sum = flushing.get(articleId);
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                sum += stripe.counts.get(articleId);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 모아둔 증가분을 writer로 한 번에 반영하고, 반영한 게시글 수를 반환한다.
+     * writer가 실패하면 증가분을 버퍼로 되돌려 다음 flush에서 다시 시도한다.
+     */
+    public int flush(Writer writer) {
+        flushLock.writeLock().lock();
+        try {
+            for (Stripe stripe : stripes) {
+                LongLongHashMap drained;
+                synchronized (stripe) {
+                    if (stripe.counts.isEmpty()) {
+                        continue;
+                    }
+                    drained = stripe.counts;
+                    stripe.counts = new LongLongHashMap();
+                }
+                drained.forEach(flushing::add);
+            }
+            if (flushing.isEmpty()) {
+                return 0;
+            }
+
+            long[] articleIds = new long[flushing.size()];
+            long[] deltas = new long[flushing.size()];
+            int size = flushing.copyTo(articleIds, deltas);
+            writer.write(articleIds, deltas, size);
+            flushing = new LongLongHashMap();
+            return size;
+        } catch (RuntimeException e) {
+            LongLongHashMap failed = flushing;
+            flushing = new LongLongHashMap();
+            failed.forEach(this::add);
+            throw e;
+        } finally {
+            flushGeneration++;
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    private Stripe stripe() {
+        long threadId = Thread.currentThread().threadId();
+        return stripes[(int) (threadId ^ (threadId >>> 16)) & mask];
+    }
+
+    private static class Stripe {
+        LongLongHashMap counts = new LongLongHashMap();
+    }
+
+    @FunctionalInterface
+    public interface Writer {
+        void write(long[] articleIds, long[] deltas, int size);
+    }
+}
@@ -0,0 +1,40 @@
+package jamm.board.view.service;
+
+import jamm.board.view.repository.ArticleViewCountBulkRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 버퍼에 모인 조회수 증가분을 주기적으로 DB에 반영한다. 종료 시에도 한 번 반영한다.
+ * 한 번의 flush는 한 트랜잭션이라, 실패하면 전부 버퍼로 돌아가고 중복 반영되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleViewCountFlusher {
+    private final ArticleViewCountBuffer articleViewCountBuffer;
+    private final ArticleViewCountBulkRepository articleViewCountBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${view.flush.interval-millis:1000}")
+    public void flush() {
+        long start = System.nanoTime();
+        int flushed = articleViewCountBuffer.flush((articleIds, deltas, size) ->
+                transactionTemplate.executeWithoutResult(status ->
+                        articleViewCountBulkRepository.increaseAll(articleIds, deltas, size)
+                )
+        );
+        if (flushed > 0) {
+            log.debug("[ArticleViewCountFlusher.flush] articles={}, time={}ms", flushed, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
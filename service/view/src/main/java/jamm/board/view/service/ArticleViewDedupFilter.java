@@ -0,0 +1,209 @@
+package jamm.board.view.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * (userId, articleId) 조회 중복 제거 - 시간 구간별 Bloom filter를 돌려 쓰는 방식.
+ * - ttl을 segmentCount개 구간으로 나누고, 최근 segmentCount + 1개 구간의 filter 중 하나라도 포함하면 중복으로 본다.
+ *   따라서 한 사용자는 한 게시글에 대해 적어도 ttl 동안은 한 번만 집계된다. (최대 ttl + ttl / segmentCount)
+ * - 메모리는 구간당 expectedInsertions와 fpp로 고정된다. 1% fpp면 쌍 하나당 약 1.2바이트
+ * - 오탐(false positive)이면 처음 보는 조회도 집계되지 않는다. 미탐은 없다.
+ */
+@Slf4j
+@Component
+public class ArticleViewDedupFilter {
+    private static final int LOCK_STRIPES = 256;
+
+    private final long segmentMillis;
+    private final int segmentCount;
+    private final long bitCount;
+    private final int hashCount;
+    private final LongSupplier clock;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    // [0]이 현재 구간. 회전 시 새 배열로 교체한다.
+    private volatile Segment[] segments;
+
+    @Autowired
+    public ArticleViewDedupFilter(
+            @Value("${view.dedup.ttl-seconds:600}") long ttlSeconds,
+            @Value("${view.dedup.segment-count:4}") int segmentCount,
+            @Value("${view.dedup.expected-insertions-per-segment:1000000}") long expectedInsertionsPerSegment,
+            @Value("${view.dedup.fpp:0.01}") double fpp
+    ) {
+        this(ttlSeconds * 1000, segmentCount, expectedInsertionsPerSegment, fpp, System::currentTimeMillis);
+    }
+
+    ArticleViewDedupFilter(long ttlMillis, int segmentCount, long expectedInsertionsPerSegment, double fpp, LongSupplier clock) {
+        if (segmentCount < 1 || ttlMillis < segmentCount) {
+            throw new IllegalArgumentException("invalid ttlMillis=" + ttlMillis + ", segmentCount=" + segmentCount);
+        }
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("fpp must be between 0 and 1: " + fpp);
+        }
+        this.segmentMillis = ttlMillis / segmentCount;
+        this.segmentCount = segmentCount;
+        // 최적 bit 수 m = -n ln(p) / (ln 2)^2, hash 수 k = m / n ln 2
+        this.bitCount = Math.max(Long.SIZE,
+                (long) Math.ceil(-expectedInsertionsPerSegment * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertionsPerSegment * Math.log(2)));
+        this.clock = clock;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+
+        long epoch = clock.getAsLong() / segmentMillis;
+        Segment[] initial = new Segment[segmentCount + 1];
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = new Segment(epoch - i, bitCount);
+        }
+        this.segments = initial;
+    }
+
+    /**
+     * 처음 보는 조회면 기록하고 true(집계), ttl 안에 이미 본 조회면 false
+     */
+    public boolean markIfFirst(long userId, long articleId) {
+        Segment[] current = rotateIfNeeded();
+        long hash1 = hash1(userId, articleId);
+        long hash2 = hash2(userId, articleId);
+
+        // 같은 쌍이 동시에 들어와도 한 번만 집계되도록 hash 별로 lock을 나눈다.
+        synchronized (locks[(int) (hash1 >>> 32) & (LOCK_STRIPES - 1)]) {
+            for (Segment segment : current) {
+                if (segment.mightContain(hash1, hash2, hashCount, bitCount)) {
+                    return false;
+                }
+            }
+            current[0].put(hash1, hash2, hashCount, bitCount);
+            return true;
+        }
+    }
+
+    /**
+     * 기록하지 않고 포함 여부만 확인 (오탐률 측정용)
+     */
+    boolean mightContain(long userId, long articleId) {
+        long hash1 = hash1(userId, articleId);
+        long hash2 = hash2(userId, articleId);
+        for (Segment segment : rotateIfNeeded()) {
+            if (segment.mightContain(hash1, hash2, hashCount, bitCount)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 현재 살아 있는 구간들의 filter 채움 정도로 추정한 오탐률
+     */
+    public double estimatedFalsePositiveRate() {
+        return estimatedFalsePositiveRate(rotateIfNeeded());
+    }
+
+    /**
+     * filter bit 배열이 차지하는 바이트 수 (모든 구간)
+     */
+    public long memoryBytes() {
+        return (long) (segmentCount + 1) * ((bitCount + Long.SIZE - 1) / Long.SIZE) * Long.BYTES;
+    }
+
+    private Segment[] rotateIfNeeded() {
+        Segment[] current = segments;
+        long epoch = clock.getAsLong() / segmentMillis;
+        if (current[0].epoch >= epoch) {
+            return current;
+        }
+        synchronized (this) {
+            current = segments;
+            if (current[0].epoch >= epoch) {
+                return current;
+            }
+            // 지난 구간 수만큼 밀어내고, 빈 filter를 앞에 채운다.
+            long shift = Math.min(epoch - current[0].epoch, current.length);
+            Segment[] rotated = new Segment[current.length];
+            for (int i = 0; i < shift; i++) {
+                rotated[i] = new Segment(epoch - i, bitCount);
+            }
+            System.arraycopy(current, 0, rotated, (int) shift, current.length - (int) shift);
+            log.info("[ArticleViewDedupFilter.rotate] epoch={}, estimatedFpp={}", epoch, estimatedFalsePositiveRate(current));
+            segments = rotated;
+            return rotated;
+        }
+    }
+
+    private double estimatedFalsePositiveRate(Segment[] current) {
+        double notFalsePositive = 1.0;
+        for (Segment segment : current) {
+            notFalsePositive *= 1.0 - Math.pow((double) segment.setBits.sum() / bitCount, hashCount);
+        }
+        return 1.0 - notFalsePositive;
+    }
+
+    private static long hash1(long userId, long articleId) {
+        return mix(userId * 0x9E3779B97F4A7C15L + articleId);
+    }
+
+    // 0이면 k개의 위치가 모두 같아지므로 홀수로 만든다.
+    private static long hash2(long userId, long articleId) {
+        return mix(articleId * 0xC2B2AE3D27D4EB4FL + userId) | 1L;
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static class Segment {
+        final long epoch;
+        final AtomicLongArray bits;
+        final LongAdder setBits = new LongAdder();
+
+        Segment(long epoch, long bitCount) {
+            this.epoch = epoch;
+            this.bits = new AtomicLongArray((int) ((bitCount + Long.SIZE - 1) / Long.SIZE));
+        }
+
+        // double hashing - i번째 위치 = hash1 + i * hash2 (Kirsch-Mitzenmacher)
+        boolean mightContain(long hash1, long hash2, int hashCount, long bitCount) {
+            long combined = hash1;
+            for (int i = 0; i < hashCount; i++) {
+                long index = Long.remainderUnsigned(combined, bitCount);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+                combined += hash2;
+            }
+            return true;
+        }
+
+        void put(long hash1, long hash2, int hashCount, long bitCount) {
+            long combined = hash1;
+            for (int i = 0; i < hashCount; i++) {
+                long index = Long.remainderUnsigned(combined, bitCount);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                while (true) {
+                    long previous = bits.get(word);
+                    if ((previous & mask) != 0) {
+                        break;
+                    }
+                    if (bits.compareAndSet(word, previous, previous | mask)) {
+                        setBits.increment();
+                        break;
+                    }
+                }
+                combined += hash2;
+            }
+        }
+    }
+}
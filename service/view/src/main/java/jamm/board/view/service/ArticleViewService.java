@@ -0,0 +1,37 @@
+package jamm.board.view.service;
+
+import jamm.board.view.entity.ArticleViewCount;
+import jamm.board.view.repository.ArticleViewCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ArticleViewService {
+    private final ArticleViewCountBuffer articleViewCountBuffer;
+    private final ArticleViewDedupFilter articleViewDedupFilter;
+    private final ArticleViewCountRepository articleViewCountRepository;
+
+    /**
+     * 사용자 조회수 증가 - 같은 사용자는 한 게시글에 대해 ttl 동안 한 번만 집계한다. 집계되었으면 true
+     * 메모리 버퍼에만 더하고, DB에는 ArticleViewCountFlusher가 모아서 반영한다.
+     */
+    public boolean increase(Long articleId, Long userId) {
+        if (!articleViewDedupFilter.markIfFirst(userId, articleId)) {
+            return false;
+        }
+        articleViewCountBuffer.increase(articleId);
+        return true;
+    }
+
+    /**
+     * 조회수 - DB에 반영된 값 + 아직 반영되지 않은 증가분
+     */
+    public Long count(Long articleId) {
+        return articleViewCountBuffer.count(articleId, id ->
+                articleViewCountRepository.findById(id)
+                        .map(ArticleViewCount::getViewCount)
+                        .orElse(0L)
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package jamm.board.view.service;
+
+
+/**
+ * long -> long open addressing(linear probing) 해시맵 - 박싱 없이 증분만 누적한다.
+ * 스레드 안전하지 않으므로 외부에서 동기화해서 사용한다.
+ */
+public class LongLongHashMap {
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private long[] values;
+    private boolean[] used;
+    private int size;
+    private int mask;
+    private int resizeThreshold;
+
+    public LongLongHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * key의 값에 delta를 더하고, 더한 뒤의 값을 반환한다. 없으면 0에서 시작한다.
+     */
+    public long add(long key, long delta) {
+        int index = indexOf(key);
+        if (used[index]) {
+            return values[index] += delta;
+        }
+        used[index] = true;
+        keys[index] = key;
+        values[index] = delta;
+        if (++size > resizeThreshold) {
+            resize();
+        }
+        return delta;
+    }
+
+    public long get(long key) {
+        int index = indexOf(key);
+        return used[index] ? values[index] : 0L;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * 모든 항목을 keys[0, size), values[0, size)로 복사한다.
+     */
+    public int copyTo(long[] keysDest, long[] valuesDest) {
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                keysDest[count] = keys[i];
+                valuesDest[count] = values[i];
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int indexOf(long key) {
+        int index = hash(key) & mask;
+        while (used[index] && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(keys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int index = indexOf(oldKeys[i]);
+                used[index] = true;
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    // snowflake id의 하위 비트(sequence)는 몰려 있으므로 섞어서 쓴다.
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+}
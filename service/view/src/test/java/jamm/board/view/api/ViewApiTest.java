@@ -0,0 +1,51 @@
+package jamm.board.view.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ViewApiTest {
+
+    RestClient restClient = RestClient.create("http://localhost:9003");
+
+    @Test
+    void viewTest() throws InterruptedException {
+        // 한 게시글에 조회가 몰리는 상황 - 응답 직후 조회수는 flush 전이어도 증가분을 포함해야 한다.
+        Long articleId = System.nanoTime();
+        int threadCount = 32;
+        int requestCount = 10_000;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        long start = System.nanoTime();
+        for (int i = 0; i < requestCount; i++) {
+            long userId = i; // 사용자마다 한 번씩 - 중복 제거 없이 모두 집계된다.
+            executorService.execute(() -> {
+                try {
+                    restClient.post()
+                            .uri("/v1/article-views/articles/{articleId}/users/{userId}", articleId, userId)
+                            .retrieve()
+                            .toBodilessEntity();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long end = System.nanoTime();
+        executorService.shutdown();
+
+        Long count = restClient.get()
+                .uri("/v1/article-views/articles/{articleId}/count", articleId)
+                .retrieve()
+                .body(Long.class);
+
+        System.out.println("requests/sec = %s".formatted(requestCount * 1_000_000_000L / (end - start)));
+        assertThat(count).isEqualTo((long) requestCount);
+    }
+}
@@ -0,0 +1,182 @@
+package jamm.board.view.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArticleViewCountBufferTest {
+
+    @Test
+    void countTest() {
+        ArticleViewCountBuffer buffer = new ArticleViewCountBuffer(4);
+        buffer.increase(1L);
+        buffer.increase(1L);
+        buffer.increase(2L);
+
+        assertThat(buffer.count(1L, articleId -> 10L)).isEqualTo(12L);
+        assertThat(buffer.count(2L, articleId -> 0L)).isEqualTo(1L);
+        assertThat(buffer.count(3L, articleId -> 5L)).isEqualTo(5L);
+    }
+
+    //DB 조회와 증가분 조회 사이에 flush가 끝나면 다시 읽어서, 반영된 증가분을 빠뜨리지 않는다.
+    @Test
+    void countDuringFlushTest() {
+        ArticleViewCountBuffer buffer = new ArticleViewCountBuffer(4);
+        buffer.increase(1L);
+        buffer.increase(1L);
+        Map<Long, Long> store = new ConcurrentHashMap<>();
+        AtomicBoolean flushed = new AtomicBoolean();
+
+        long count = buffer.count(1L, articleId -> {
+            long persisted = store.getOrDefault(articleId, 0L);
+            if (flushed.compareAndSet(false, true)) {
+                buffer.flush(writer(store)); // DB 조회 직후 flush - lock을 잡고 DB를 조회했다면 여기서 멈춘다.
+            }
+            return persisted;
+        });
+
+        assertThat(count).isEqualTo(2L);
+    }
+
+    @Test
+    void flushTest() {
+        ArticleViewCountBuffer buffer = new ArticleViewCountBuffer(4);
+        buffer.increase(1L);
+        buffer.increase(1L);
+        buffer.increase(2L);
+        Map<Long, Long> store = new ConcurrentHashMap<>();
+
+        int flushed = buffer.flush(writer(store));
+
+        assertThat(flushed).isEqualTo(2);
+        assertThat(store).containsEntry(1L, 2L).containsEntry(2L, 1L);
+        assertThat(buffer.unflushed(1L)).isEqualTo(0L);
+        assertThat(buffer.flush(writer(store))).isEqualTo(0);
+    }
+
+    //DB 반영에 실패하면 증가분이 버퍼로 돌아가서 다음 flush에 반영된다.
+    @Test
+    void flushFailureTest() {
+        ArticleViewCountBuffer buffer = new ArticleViewCountBuffer(4);
+        buffer.increase(1L);
+
+        assertThatThrownBy(() -> buffer.flush((articleIds, deltas, size) -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(buffer.unflushed(1L)).isEqualTo(1L);
+
+        Map<Long, Long> store = new ConcurrentHashMap<>();
+        buffer.flush(writer(store));
+        assertThat(store).containsEntry(1L, 1L);
+    }
+
+    //증가와 flush가 동시에 일어나도 증가분이 유실되거나 중복 반영되지 않는다.
+    @Test
+    void concurrentIncreaseAndFlushTest() throws InterruptedException {
+        ArticleViewCountBuffer buffer = new ArticleViewCountBuffer(8);
+        Map<Long, Long> store = new ConcurrentHashMap<>();
+        int threadCount = 8;
+        int increasePerThread = 200_000;
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                buffer.flush(writer(store));
+            }
+        });
+        flusher.start();
+
+        runConcurrently(threadCount, () -> {
+            for (int i = 0; i < increasePerThread; i++) {
+                buffer.increase(i % 10);
+            }
+        });
+        running.set(false);
+        flusher.join();
+        buffer.flush(writer(store));
+
+        long total = store.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(total).isEqualTo((long) threadCount * increasePerThread);
+        assertThat(store.get(0L)).isEqualTo((long) threadCount * increasePerThread / 10);
+    }
+
+    //인기 게시글 하나에 증가가 몰리는 경우 - 스레드 수별 increments/sec, ConcurrentHashMap<Long, LongAdder>와 비교
+    @Test
+    void increasePerformanceTest() throws InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int increasePerThread = 2_000_000;
+        long hotArticleId = 180_000_000_000_000_000L;
+
+        for (int threadCount = 1; threadCount <= cores; threadCount *= 2) {
+            ArticleViewCountBuffer buffer = new ArticleViewCountBuffer(cores * 2);
+            long bufferTime = runConcurrently(threadCount, () -> {
+                for (int i = 0; i < increasePerThread; i++) {
+                    buffer.increase(hotArticleId);
+                }
+            });
+
+            Map<Long, LongAdder> adders = new ConcurrentHashMap<>();
+            long adderTime = runConcurrently(threadCount, () -> {
+                for (int i = 0; i < increasePerThread; i++) {
+                    adders.computeIfAbsent(hotArticleId, key -> new LongAdder()).increment();
+                }
+            });
+
+            assertThat(buffer.unflushed(hotArticleId)).isEqualTo((long) threadCount * increasePerThread);
+            long total = (long) threadCount * increasePerThread;
+            System.out.println("threads = %d, buffer = %d/sec, ConcurrentHashMap<Long, LongAdder> = %d/sec".formatted(
+                    threadCount, total * 1_000_000_000L / bufferTime, total * 1_000_000_000L / adderTime
+            ));
+        }
+    }
+
+    private ArticleViewCountBuffer.Writer writer(Map<Long, Long> store) {
+        return (articleIds, deltas, size) -> {
+            for (int i = 0; i < size; i++) {
+                store.merge(articleIds[i], deltas[i], Long::sum);
+            }
+        };
+    }
+
+    private long runConcurrently(int threadCount, Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        List<Throwable> errors = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    task.run();
+                } catch (Throwable e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        long startTime = System.nanoTime();
+        start.countDown();
+        done.await();
+        long time = System.nanoTime() - startTime;
+        executorService.shutdown();
+        assertThat(errors).isEmpty();
+        return time;
+    }
+}
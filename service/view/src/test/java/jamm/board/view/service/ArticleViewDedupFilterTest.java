@@ -0,0 +1,106 @@
+package jamm.board.view.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleViewDedupFilterTest {
+
+    @Test
+    void markIfFirstTest() {
+        ArticleViewDedupFilter filter = new ArticleViewDedupFilter(10_000L, 4, 1000L, 0.01, () -> 0L);
+
+        assertThat(filter.markIfFirst(1L, 1L)).isTrue();
+        assertThat(filter.markIfFirst(1L, 1L)).isFalse();
+        assertThat(filter.markIfFirst(1L, 2L)).isTrue();
+        assertThat(filter.markIfFirst(2L, 1L)).isTrue();
+    }
+
+    //ttl 동안은 중복으로 보고, ttl + 한 구간이 지나면 다시 집계한다.
+    @Test
+    void expireTest() {
+        AtomicLong now = new AtomicLong(0L);
+        ArticleViewDedupFilter filter = new ArticleViewDedupFilter(10_000L, 4, 1000L, 0.01, now::get);
+        filter.markIfFirst(1L, 1L);
+
+        now.set(9_999L);
+        assertThat(filter.markIfFirst(1L, 1L)).isFalse();
+
+        now.set(12_500L);
+        assertThat(filter.markIfFirst(1L, 1L)).isTrue();
+    }
+
+    //오래 호출이 없다가 들어와도 지난 구간이 모두 비워진다.
+    @Test
+    void expireAfterIdleTest() {
+        AtomicLong now = new AtomicLong(0L);
+        ArticleViewDedupFilter filter = new ArticleViewDedupFilter(10_000L, 4, 1000L, 0.01, now::get);
+        filter.markIfFirst(1L, 1L);
+
+        now.set(1_000_000L);
+
+        assertThat(filter.markIfFirst(1L, 1L)).isTrue();
+    }
+
+    //구간당 expectedInsertions만큼 넣었을 때 실제 오탐률이 설정한 fpp 근처이고, 추정치와도 맞는지 확인
+    @Test
+    void falsePositiveRateTest() {
+        int insertions = 1_000_000;
+        double fpp = 0.01;
+        ArticleViewDedupFilter filter = new ArticleViewDedupFilter(10_000L, 1, insertions, fpp, () -> 0L);
+        for (long i = 0; i < insertions; i++) {
+            filter.markIfFirst(i, i % 1000);
+        }
+
+        int queries = 1_000_000;
+        int falsePositives = 0;
+        for (long i = 0; i < queries; i++) {
+            if (filter.mightContain(insertions + i, i % 1000)) {
+                falsePositives++;
+            }
+        }
+        double measured = (double) falsePositives / queries;
+
+        System.out.println("measured fpp = %.5f, estimated fpp = %.5f".formatted(
+                measured, filter.estimatedFalsePositiveRate()));
+        assertThat(measured).isLessThan(fpp * 2);
+    }
+
+    //distinct 쌍 100만 개당 메모리 - Bloom filter(구간 하나) vs Set<String>("userId:articleId")
+    @Test
+    void memoryPerMillionPairsTest() {
+        int pairs = 1_000_000;
+        ArticleViewDedupFilter filter = new ArticleViewDedupFilter(10_000L, 1, pairs, 0.01, () -> 0L);
+        // segmentCount + 1개 구간이므로 2로 나눈다.
+        long filterBytes = filter.memoryBytes() / 2;
+
+        long before = usedMemory();
+        Set<String> set = new HashSet<>();
+        for (long i = 0; i < pairs; i++) {
+            set.add((180_000_000_000_000_000L + i) + ":" + (180_000_000_000_000_000L + i % 1000));
+        }
+        long setBytes = usedMemory() - before;
+
+        long start = System.nanoTime();
+        for (long i = 0; i < pairs; i++) {
+            filter.markIfFirst(i, i % 1000);
+        }
+        long nanosPerOp = (System.nanoTime() - start) / pairs;
+
+        System.out.println("bloom filter = %d bytes/1M pairs (%.2f bytes/pair), %d ns/op".formatted(
+                filterBytes, (double) filterBytes / pairs, nanosPerOp));
+        System.out.println("Set<String> = %d bytes/1M pairs (%.2f bytes/pair), size = %d".formatted(
+                setBytes, (double) setBytes / pairs, set.size()));
+        assertThat(filterBytes).isLessThan(2L * pairs);
+    }
+
+    private long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
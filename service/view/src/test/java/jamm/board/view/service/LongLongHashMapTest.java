@@ -0,0 +1,51 @@
+package jamm.board.view.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongLongHashMapTest {
+
+    @Test
+    void addTest() {
+        LongLongHashMap map = new LongLongHashMap();
+
+        assertThat(map.add(1L, 1L)).isEqualTo(1L);
+        assertThat(map.add(1L, 2L)).isEqualTo(3L);
+        assertThat(map.add(0L, 5L)).isEqualTo(5L);
+        assertThat(map.add(-1L, 7L)).isEqualTo(7L);
+
+        assertThat(map.get(1L)).isEqualTo(3L);
+        assertThat(map.get(0L)).isEqualTo(5L);
+        assertThat(map.get(-1L)).isEqualTo(7L);
+        assertThat(map.get(2L)).isEqualTo(0L);
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    //resize 후에도 HashMap과 같은 결과
+    @Test
+    void resizeTest() {
+        LongLongHashMap map = new LongLongHashMap();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(10_000) + 180_000_000_000_000_000L;
+            map.add(key, i);
+            expected.merge(key, (long) i, Long::sum);
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+
+        long[] keys = new long[map.size()];
+        long[] values = new long[map.size()];
+        assertThat(map.copyTo(keys, values)).isEqualTo(expected.size());
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(values[i]).isEqualTo(expected.get(keys[i]));
+        }
+    }
+}